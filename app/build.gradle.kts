@@ -110,3 +110,11 @@ dependencies {
     implementation("io.ktor:ktor-serialization-kotlinx-json-jvm:$ktor_version")
     implementation("ch.qos.logback:logback-classic:1.3.11")
 }
+
+// src 전체가 main 소스이므로 단위 테스트(src/test/java)는 앱 컴파일에서 제외
+tasks.withType<JavaCompile>().configureEach {
+    if (!name.contains("UnitTest")) exclude("test/**")
+}
+tasks.withType<org.jetbrains.kotlin.gradle.tasks.KotlinCompile>().configureEach {
+    if (!name.contains("UnitTest")) exclude("test/**")
+}
@@ -12,14 +12,23 @@ import android.widget.TextView;
 import timber.log.Timber;
 
 import com.skt.aionad.addon.bluehands.CarRepairInfo;
+import com.skt.aionad.addon.bluehands.CarRepairInfoChangeLog;
+import com.skt.aionad.addon.bluehands.CarRepairInfoExpiry;
+import com.skt.aionad.addon.bluehands.CarRepairInfoJournal;
+import com.skt.aionad.addon.bluehands.CarRepairInfoStore;
+import com.skt.aionad.addon.bluehands.RenderMetrics;
+import com.skt.aionad.addon.bluehands.StatusBoardChannel;
+import com.skt.aionad.addon.bluehands.StatusBoardFrame;
+import com.skt.aionad.addon.bluehands.StatusBoardFramePreparer;
+import com.skt.aionad.addon.bluehands.StatusBoardModel;
 import com.skt.aionad.addon.utils.ConfigManager;
+import com.skt.aionad.addon.utils.StructuredLog;
 import com.skt.aionad.addon.server.KtorServer;
 
+import java.io.File;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 import android.webkit.ValueCallback;
 
 /**
@@ -38,16 +47,21 @@ public class AddOnBluehands {
     private TextView carRepairStatusInfoText;
     private KtorServer ktorServer;
 
-    // 스레드 안전한 리스트 - 외부에서 수시로 추가될 수 있음
-    private CopyOnWriteArrayList<CarRepairInfo> carRepairInfoJobList = new CopyOnWriteArrayList<>();
-    // 내부 정렬용 리스트 - 메인 스레드에서만 접근
-    private ArrayList<CarRepairInfo> carRepairInfoFinishTimeSortedList = new ArrayList<>();
-    // 화면 표시용 리스트 - 메인 스레드에서만 접근
-    private ArrayList<CarRepairInfo> carRepairInfoDisplayList = new ArrayList<>();
+    // 차량번호 기준 스레드 안전한 저장소 - 외부(Ktor 서버 등)에서 수시로 추가/수정/삭제됨
+    private final CarRepairInfoStore carRepairInfoStore = new CarRepairInfoStore();
+    // 저장소 변경 영속화 (앱 재시작 시 복원)
+    private final CarRepairInfoJournal carRepairInfoJournal;
+    // 최근 변경 내역 (GET /api/car-repair/changes?since= 용)
+    private final CarRepairInfoChangeLog carRepairInfoChangeLog;
+    // 완료 작업 자동 만료 (completedTtlMinutes > 0인 경우만)
+    private final CarRepairInfoExpiry carRepairInfoExpiry;
+    // 다음 페이지 프레임을 백그라운드 스레드에서 미리 준비 (메인 스레드는 전달만 수행)
+    private final StatusBoardFramePreparer statusBoardFramePreparer;
+    // 현재 표시 중인 페이지 프레임 (불변) - 메인 스레드에서만 접근
+    private StatusBoardFrame displayFrame;
     
     // 페이지네이션을 위한 변수들
     private int currentPageIndex = 0;
-    private static final int ITEMS_PER_PAGE = 4;
     
     // ✅ WebView 리프레시를 위한 변수들 (클래스 레벨에 추가)
     private int webViewUpdateCount = 0;
@@ -57,6 +71,25 @@ public class AddOnBluehands {
     private long lastUpdateTime = 0; // 마지막 업데이트 시간을 저장하기 위한 변수
     private long appStartTime = 0; // 앱 시작 시간을 저장하기 위한 변수
 
+    // 화면 갱신 주기 측정값 (REST /api/render/metrics, /metrics 및 주기 요약 로그)
+    private final RenderMetrics renderMetrics = new RenderMetrics();
+    // 현황판 WebView에 현재 표시 중인 셀 (바뀐 셀만 갱신) - 메인 스레드에서만 접근
+    private final StatusBoardModel statusBoardModel = new StatusBoardModel();
+    // 현황판 페이지와의 메시지 채널 (페이지 로드 완료 시 연결) - 메인 스레드에서만 접근
+    private StatusBoardChannel statusBoardChannel;
+    private long pageCycleStartNanos = 0; // 현재 페이지 갱신 시작 시각
+
+    // 페이지가 직접 넘기는 모드 (carRepairInfo.display.mode: "client")
+    // 저장소가 바뀔 때만 정렬된 전체 목록을 보내므로 변경이 없으면 앱 쪽 주기 작업이 없음
+    private final boolean clientPaging;
+    private long pushedBoardVersion = -1; // 페이지에 전달한 저장소 버전 (-1: 다시 전달 필요) - 메인 스레드에서만 접근
+    private final AtomicBoolean boardPushPosted = new AtomicBoolean(false); // 변경 알림이 몰려도 한 번만 예약
+    private final Runnable boardPushRunnable = this::pushBoardIfChanged;
+    private final Runnable boardRetryRunnable = this::requestBoardPush;
+    private final CarRepairInfoStore.ChangeListener boardChangeListener = change -> requestBoardPush();
+    private long lastRenderSummaryLogTime = 0; // 마지막 요약 로그 시각
+    private static final long RENDER_SUMMARY_LOG_INTERVAL_MS = 60_000; // 1분마다 요약 로그
+
     // 모니터 전용 핸들러 (TextView 갱신용)
     private final Handler monitorHandler = new Handler(Looper.getMainLooper());
     private final Runnable monitorRunnable = new Runnable() {
@@ -80,15 +113,33 @@ public class AddOnBluehands {
                 long actualInterval = currentTime - lastUpdateTime;
                 long expectedInterval = ConfigManager.getInstance().getCarRepairInfoDisplayInterval();
                 long deviation = Math.abs(actualInterval - expectedInterval);
+                renderMetrics.recordScheduleDriftMs(deviation);
                 
-                Timber.d("Expected: %dms, Actual: %dms, Deviation: %dms", 
-                    expectedInterval, actualInterval, deviation);
+                StructuredLog.d("render.schedule")
+                        .kv("expectedMs", expectedInterval)
+                        .kv("actualMs", actualInterval)
+                        .kv("deviationMs", deviation)
+                        .log();
             }
             lastUpdateTime = currentTime;
+            pageCycleStartNanos = System.nanoTime();
             
-            Timber.i("Periodic update: Page %d", currentPageIndex);
+            // 이번 페이지는 백그라운드에서 미리 준비한 프레임으로 표시 (준비 후 저장소가 바뀌었으면 최신 버전으로 다시 만듦)
+            displayFrame = statusBoardFramePreparer.take(currentPageIndex);
+            StructuredLog.d("display.page.before")
+                    .kv("total", displayFrame.getTotalCount())
+                    .kv("version", displayFrame.getVersion())
+                    .kv("page", currentPageIndex)
+                    .log();
+            if (displayFrame.getPageIndex() != currentPageIndex) {
+                // 사이클 도중 데이터가 줄어 현재 페이지가 범위를 벗어나면 처음부터 다시 표시
+                Timber.i("Page %d is out of range (total: %d). Restarting from page 0",
+                        currentPageIndex, displayFrame.getTotalCount());
+                currentPageIndex = displayFrame.getPageIndex();
+            }
+            Timber.i("Periodic update: Page %d (store version: %d)", currentPageIndex, displayFrame.getVersion());
             
-            // 새로운 사이클 시작 시에만 데이터를 새로 로드하고 정렬
+            // 새로운 사이클 시작 시 현재 표시 순서를 로그로 남김 (정렬은 저장소가 변경 시점에 유지)
             if (currentPageIndex == 0) {
                 /* 
                 testDataInitCount++;
@@ -100,22 +151,20 @@ public class AddOnBluehands {
                 }
                 */    
                 
-                sortCarRepairInfoByFinishTime();
-                Timber.i("New cycle started: JobList refreshed and sorted");
+                logCarRepairInfoFinishTimeOrder();
+                Timber.i("New cycle started: %d items in finish time order", displayFrame.getTotalCount());
             }
-            
-            // 현재 페이지의 아이템들을 DisplayList에 설정
-            updateDisplayListForCurrentPage();
 
             // ✅ 디버깅 로그 추가
-            Timber.w("About to display WebView - Page: %d, displayList size: %d, SortedList size: %d", 
-                    currentPageIndex, carRepairInfoDisplayList.size(), carRepairInfoFinishTimeSortedList.size());
+            Timber.w("About to display WebView - Page: %d, displayList size: %d, Snapshot size: %d", 
+                    currentPageIndex, displayFrame.getItems().size(), displayFrame.getTotalCount());
 
             // ✅ 화면에 표시 먼저!
             if (repairStatusWebView != null) {
                 updateRepairStatusWebViewWithCallback();
             } else {
                 Timber.e("❌ repairStatusWebView is NULL!");
+                renderMetrics.incrementSkippedUpdates();
                 // 다음 페이지 준비 (화면 표시 후)
                 moveToNextPageOrRestart();
                 scheduleNextUpdate();
@@ -126,6 +175,29 @@ public class AddOnBluehands {
     public AddOnBluehands(Context context) {
         this.context = context;
         this.appStartTime = System.currentTimeMillis(); // 앱 시작 시간 기록
+
+        // 이전 실행의 수리 작업 복원 후 변경 기록 시작 (Ktor 서버 시작 전)
+        this.carRepairInfoJournal = new CarRepairInfoJournal(new File(context.getFilesDir(), "car-repair"));
+        carRepairInfoJournal.restore(carRepairInfoStore);
+        carRepairInfoJournal.start(carRepairInfoStore);
+
+        this.carRepairInfoChangeLog = new CarRepairInfoChangeLog(
+                CarRepairInfoChangeLog.DEFAULT_CAPACITY, carRepairInfoStore.getVersion());
+        carRepairInfoStore.addChangeListener(carRepairInfoChangeLog);
+
+        long completedTtlMinutes = ConfigManager.getInstance().getCarRepairInfoCompletedTtlMinutes();
+        if (completedTtlMinutes > 0) {
+            this.carRepairInfoExpiry = new CarRepairInfoExpiry(completedTtlMinutes);
+            carRepairInfoExpiry.start(carRepairInfoStore);
+        } else {
+            this.carRepairInfoExpiry = null;
+        }
+
+        this.clientPaging = "client".equalsIgnoreCase(ConfigManager.getInstance().getCarRepairInfoDisplayMode());
+
+        // 복원된 저장소 기준 첫 페이지
+        this.statusBoardFramePreparer = new StatusBoardFramePreparer(carRepairInfoStore, this::buildItemCells);
+        this.displayFrame = StatusBoardFrame.build(carRepairInfoStore.getSnapshot(), 0, this::buildItemCells);
     }
 
     /**
@@ -154,6 +226,22 @@ public class AddOnBluehands {
             // 하드웨어 가속 설정
             repairStatusWebView.setLayerType(View.LAYER_TYPE_HARDWARE, null);
             
+            // 페이지가 (다시) 로드되면 표시 중인 셀을 알 수 없으므로 다음 갱신 때 전체를 보냄
+            // 새 페이지와 메시지 채널을 다시 연결
+            statusBoardChannel = new StatusBoardChannel(repairStatusWebView);
+            repairStatusWebView.setWebViewClient(new WebViewClient() {
+                @Override
+                public void onPageFinished(WebView view, String url) {
+                    statusBoardModel.invalidate();
+                    statusBoardChannel.connect();
+                    Timber.i("Status board page loaded: %s", url);
+                    if (clientPaging) {
+                        // 새 페이지에는 목록이 없으므로 현재 스냅샷을 다시 전달
+                        pushedBoardVersion = -1;
+                        requestBoardPush();
+                    }
+                }
+            });
             repairStatusWebView.loadUrl("file:///android_asset/bluehands/status_board.html");
         }
 
@@ -196,7 +284,17 @@ public class AddOnBluehands {
     public void startPeriodicUpdates() {
         // WebView 테이블 갱신: 기존 핸들러 정리 후 새로 시작
         periodicUpdateHandler.removeCallbacks(periodicUpdateRunnable);
-        periodicUpdateHandler.postDelayed(periodicUpdateRunnable, ConfigManager.getInstance().getCarRepairInfoDisplayInterval());
+        if (clientPaging) {
+            // 페이지 넘김은 페이지에서, 앱은 저장소 변경 시에만 전체 목록 전달
+            carRepairInfoStore.removeChangeListener(boardChangeListener);
+            carRepairInfoStore.addChangeListener(boardChangeListener);
+            requestBoardPush();
+            Timber.i("Client-side paging enabled, board is pushed only on store changes");
+        } else {
+            // 첫 주기 전에 표시할 페이지를 미리 준비
+            statusBoardFramePreparer.prepare(currentPageIndex);
+            periodicUpdateHandler.postDelayed(periodicUpdateRunnable, ConfigManager.getInstance().getCarRepairInfoDisplayInterval());
+        }
         
         // TextView 갱신: monitor 설정에 따라 제어
         if (ConfigManager.getInstance().isMonitorEnabled()) {
@@ -226,6 +324,10 @@ public class AddOnBluehands {
     public void stopPeriodicUpdates() {
         // WebView 갱신 중지
         periodicUpdateHandler.removeCallbacks(periodicUpdateRunnable);
+        carRepairInfoStore.removeChangeListener(boardChangeListener);
+        periodicUpdateHandler.removeCallbacks(boardPushRunnable);
+        periodicUpdateHandler.removeCallbacks(boardRetryRunnable);
+        boardPushPosted.set(false);
         // TextView 갱신 중지
         monitorHandler.removeCallbacks(monitorRunnable);
     }
@@ -236,6 +338,10 @@ public class AddOnBluehands {
     public void cleanup() {
         stopPeriodicUpdates();
         
+        if (statusBoardChannel != null) {
+            statusBoardChannel.close();
+        }
+
         if (repairStatusWebView != null) {
             repairStatusWebView.clearCache(true);
             repairStatusWebView.clearHistory();
@@ -257,6 +363,15 @@ public class AddOnBluehands {
                 Timber.e(e, "Error stopping Ktor server");
             }
         }
+
+        if (carRepairInfoExpiry != null) {
+            carRepairInfoExpiry.stop();
+        }
+
+        statusBoardFramePreparer.quit();
+
+        // 남은 변경 기록 후 저널 종료 (서버 종료 후 더 이상 변경 없음)
+        carRepairInfoJournal.close();
     }
 
     private boolean isUpdating = false;
@@ -264,6 +379,7 @@ public class AddOnBluehands {
     private void updateRepairStatusWebView() {
         if (isUpdating) {
             Timber.w("Previous update still in progress, skipping...");
+            renderMetrics.incrementSkippedUpdates();
             return;
         }
         
@@ -276,83 +392,17 @@ public class AddOnBluehands {
             return;
         }
 
-        // 데이터가 없으면 테이블을 숨기고 내용 초기화
-        if (carRepairInfoDisplayList.isEmpty()) {
-            String jsHide = "(function(){try{var t=document.querySelector('table');if(!t)return;" +
-                    "t.style.display='none';var r=t.rows;" +
-                    "if(r.length>=3){for(var i=0;i<4;i++){" +
-                    "var h=r[0].cells[i]; if(h){h.textContent=''; h.className='h empty';}" +
-                    "var p=r[1].cells[i]; if(p){p.textContent=''; p.className='empty';}" +
-                    "var s=r[2].cells[i]; if(s){s.innerHTML=''; s.className='empty';}}}" +
-                    "catch(e){console.error(e);} return 'empty_completed';})();";
-            
-            repairStatusWebView.evaluateJavascript(jsHide, new ValueCallback<String>() {
-                @Override
-                public void onReceiveValue(String result) {
-                    // JavaScript 실행 완료 시 호출됨
-                    long endTimeNanos = System.nanoTime();
-                    double durationMs = (endTimeNanos - startTimeNanos) / 1_000_000.0;
-                    Timber.d("updateRepairStatusWebView() JS execution completed: %.2f ms (empty data), result: %s", 
-                            durationMs, result);
-                    isUpdating = false; // ✅ 리셋 추가
-                }
-            });
-            
-            return; // ✅ 이제 안전하게 return 가능
-        }
-
-        StringBuilder jsBuilder = new StringBuilder();
-        jsBuilder.append("(function(){try{var t=document.querySelector('table');if(!t)return;t.style.display='table';var r=t.rows;");
-        jsBuilder.append("if(r.length>=3){");
-
-        // 최대 4개의 컬럼까지 처리 (현재 HTML 테이블 구조에 맞춤)
-        int maxColumns = Math.min(carRepairInfoDisplayList.size(), 4);
-        
-        for (int i = 0; i < 4; i++) { // 항상 4개 열을 모두 처리
-            if (i < carRepairInfoDisplayList.size()) {
-                // 데이터가 있는 경우
-                CarRepairInfo carInfo = carRepairInfoDisplayList.get(i);
-                
-                // 상태에 따른 CSS 클래스 결정
-                String statusClass = getStatusClass(carInfo.getRepairStatus());
-                String statusText = getStatusText(carInfo.getRepairStatus());
-                
-                // 헤더 업데이트 (첫 번째 행)
-                jsBuilder.append(String.format("var h%d=r[0].cells[%d]; h%d.textContent='%s'; h%d.className='h %s';", 
-                        i, i, i, statusText, i, statusClass));
-                
-                // 차량 정보 업데이트 (두 번째 행) - 차량 번호 마스킹 적용
-                String maskedPlate = maskLicensePlate(carInfo.getLicensePlateNumber());
-                String plateAndModel = maskedPlate + " " + carInfo.getCarModel();
-                jsBuilder.append(String.format("var p%d=r[1].cells[%d]; p%d.textContent='%s'; p%d.className='plate';", 
-                        i, i, i, plateAndModel, i));
-                
-                // 상태 정보 업데이트 (세 번째 행)
-                String statusInfo = getStatusInfoText(carInfo);
-                jsBuilder.append(String.format("var s%d=r[2].cells[%d]; s%d.innerHTML='%s'; s%d.className='status';", 
-                        i, i, i, statusInfo, i));
-            } else {
-                // 데이터가 없는 경우 - 빈 열로 설정
-                jsBuilder.append(String.format("var h%d=r[0].cells[%d]; h%d.textContent=''; h%d.className='h empty';", 
-                        i, i, i, i));
-                jsBuilder.append(String.format("var p%d=r[1].cells[%d]; p%d.textContent=''; p%d.className='empty';", 
-                        i, i, i, i));
-                jsBuilder.append(String.format("var s%d=r[2].cells[%d]; s%d.innerHTML=''; s%d.className='empty';", 
-                        i, i, i, i));
-            }
-        }
-        
-        jsBuilder.append("}}catch(e){console.error(e);} return 'update_completed';})();");
-        
-        String js = jsBuilder.toString();
-        repairStatusWebView.evaluateJavascript(js, new ValueCallback<String>() {
+        // 전체 셀을 다시 보내 render()로 갱신 (데이터가 없으면 테이블을 숨기고 빈 셀로 초기화)
+        statusBoardModel.invalidate();
+        String payload = statusBoardModel.buildRenderPayload(displayFrame.getCells(), displayFrame.isVisible());
+        repairStatusWebView.evaluateJavascript(buildRenderCall(payload), new ValueCallback<String>() {
             @Override
             public void onReceiveValue(String result) {
                 // JavaScript 실행 완료 시 호출됨
                 long endTimeNanos = System.nanoTime();
                 double durationMs = (endTimeNanos - startTimeNanos) / 1_000_000.0;
                 Timber.d("updateRepairStatusWebView() JS execution completed: %.2f ms (data count: %d), result: %s", 
-                        durationMs, carRepairInfoDisplayList.size(), result);
+                        durationMs, displayFrame.getItems().size(), result);
                 isUpdating = false; // ✅ 리셋 추가
             }
         });
@@ -384,186 +434,76 @@ public class AddOnBluehands {
         }
     }
 
-    private String getStatusInfoText(CarRepairInfo carInfo) {
+    /**
+     * 상태 정보 셀 (예상 완료 시간은 페이지에서 span.time으로 강조 표시)
+     */
+    private StatusBoardModel.Cell getStatusInfoCell(CarRepairInfo carInfo) {
         if (carInfo.getRepairStatus() == CarRepairInfo.RepairStatus.COMPLETED) {
-            return "완료";
-        } else if (carInfo.getEstimatedFinishTime() != null && !carInfo.getEstimatedFinishTime().trim().isEmpty()) {
-            Integer timeInSeconds = CarRepairInfo.parseTimeToSeconds(carInfo.getEstimatedFinishTime());
-            if (timeInSeconds != null) {
-                String timeStr = CarRepairInfo.formatSecondsToTime(timeInSeconds);
-                if (timeStr.length() >= 5) {
-                    String hhmmFormat = timeStr.substring(0, 5); // "HH:mm:ss"에서 "HH:mm"만 추출
-                    return "예상 완료 시간 : <span class=\\\"time\\\">" + hhmmFormat + "</span>";
-                }
-            }
-            return "시간 미정";
+            return new StatusBoardModel.Cell("완료", "status");
+        } else if (carInfo.hasEstimatedFinishTime()) {
+            // 생성 시점에 파싱된 초 값을 그대로 사용
+            String hhmmFormat = CarRepairInfo.formatHourMinute(carInfo.getEstimatedFinishSeconds());
+            return new StatusBoardModel.Cell("예상 완료 시간 : ", "status", hhmmFormat);
         } else {
-            return "시간 미정";
+            return new StatusBoardModel.Cell("시간 미정", "status");
         }
     }
 
     public void addCarRepairInfoForTest() {
-        // 테스트를 위해 carRepairInfoJobList에 더 많은 데이터 추가
-        carRepairInfoJobList.clear();
-        carRepairInfoJobList.add(new CarRepairInfo(CarRepairInfo.RepairStatus.IN_PROGRESS, "001가111", "소나타", "08:30:00", "10:30:00")); // 8:30에 요청
-        carRepairInfoJobList.add(new CarRepairInfo(CarRepairInfo.RepairStatus.IN_PROGRESS, "002나222", "아반떼MD", "09:15:00", "12:15:00")); // 9:15에 요청
-        carRepairInfoJobList.add(new CarRepairInfo(CarRepairInfo.RepairStatus.FINAL_INSPECTION, "003다333", "I520", "10:00:00", "13:30:00")); // 10:00에 요청
-        carRepairInfoJobList.add(new CarRepairInfo(CarRepairInfo.RepairStatus.COMPLETED, "004라444", "모닝", "07:45:00", null)); // 7:45에 요청
-        carRepairInfoJobList.add(new CarRepairInfo(CarRepairInfo.RepairStatus.IN_PROGRESS, "005마555", "K3", "11:20:00", "15:30:00")); // 11:20에 요청
-        carRepairInfoJobList.add(new CarRepairInfo(CarRepairInfo.RepairStatus.IN_PROGRESS, "006바677", "투싼", "08:00:00", "09:45:00")); // 8:00에 요청
-        carRepairInfoJobList.add(new CarRepairInfo(CarRepairInfo.RepairStatus.FINAL_INSPECTION, "007사777", "그랜저", "09:30:00", "11:20:00")); // 9:30에 요청
-        carRepairInfoJobList.add(new CarRepairInfo(CarRepairInfo.RepairStatus.IN_PROGRESS, "008아888", "스파크", "10:45:00", "14:30:00")); // 10:45에 요청
-        carRepairInfoJobList.add(new CarRepairInfo(CarRepairInfo.RepairStatus.IN_PROGRESS, "009자999", "레이", "12:00:00", "15:30:00")); // 12:00에 요청
-        carRepairInfoJobList.add(new CarRepairInfo(CarRepairInfo.RepairStatus.COMPLETED, "0010차100", "레이스", "06:30:00", null)); // 6:30에 요청
+        // 테스트를 위해 carRepairInfoStore에 더 많은 데이터 추가
+        carRepairInfoStore.clear();
+        carRepairInfoStore.put(new CarRepairInfo(CarRepairInfo.RepairStatus.IN_PROGRESS, "001가111", "소나타", "08:30:00", "10:30:00")); // 8:30에 요청
+        carRepairInfoStore.put(new CarRepairInfo(CarRepairInfo.RepairStatus.IN_PROGRESS, "002나222", "아반떼MD", "09:15:00", "12:15:00")); // 9:15에 요청
+        carRepairInfoStore.put(new CarRepairInfo(CarRepairInfo.RepairStatus.FINAL_INSPECTION, "003다333", "I520", "10:00:00", "13:30:00")); // 10:00에 요청
+        carRepairInfoStore.put(new CarRepairInfo(CarRepairInfo.RepairStatus.COMPLETED, "004라444", "모닝", "07:45:00", null)); // 7:45에 요청
+        carRepairInfoStore.put(new CarRepairInfo(CarRepairInfo.RepairStatus.IN_PROGRESS, "005마555", "K3", "11:20:00", "15:30:00")); // 11:20에 요청
+        carRepairInfoStore.put(new CarRepairInfo(CarRepairInfo.RepairStatus.IN_PROGRESS, "006바677", "투싼", "08:00:00", "09:45:00")); // 8:00에 요청
+        carRepairInfoStore.put(new CarRepairInfo(CarRepairInfo.RepairStatus.FINAL_INSPECTION, "007사777", "그랜저", "09:30:00", "11:20:00")); // 9:30에 요청
+        carRepairInfoStore.put(new CarRepairInfo(CarRepairInfo.RepairStatus.IN_PROGRESS, "008아888", "스파크", "10:45:00", "14:30:00")); // 10:45에 요청
+        carRepairInfoStore.put(new CarRepairInfo(CarRepairInfo.RepairStatus.IN_PROGRESS, "009자999", "레이", "12:00:00", "15:30:00")); // 12:00에 요청
+        carRepairInfoStore.put(new CarRepairInfo(CarRepairInfo.RepairStatus.COMPLETED, "0010차100", "레이스", "06:30:00", null)); // 6:30에 요청
         // 10개의 테스트 데이터로 페이지네이션 테스트 가능
     }
 
     /**
-     * 기존 데이터의 빈 문자열을 null로 정리
+     * 현재 표시 스냅샷의 완료시간 순서를 디버그 로그로 출력 (정렬 없음)
      */
-    private void cleanupEmptyStringsInData() {
-        boolean dataChanged = false;
-        for (CarRepairInfo info : carRepairInfoJobList) {
-            if (info.getEstimatedFinishTime() != null && info.getEstimatedFinishTime().trim().isEmpty()) {
-                info.setEstimatedFinishTime(null);
-                Timber.d("Cleanup: EstimatedFinishTime '%s' → null for %s", "", info.getLicensePlateNumber());
-                dataChanged = true;
-            }
-            if (info.getRequestedTime() != null && info.getRequestedTime().trim().isEmpty()) {
-                info.setRequestedTime(null);
-                Timber.d("Cleanup: RequestedTime '%s' → null for %s", "", info.getLicensePlateNumber());
-                dataChanged = true;
-            }
-        }
-        if (dataChanged) {
-            Timber.i("Data cleanup completed - empty strings converted to null");
-        }
-    }
-
-    /**
-     * carRepairInfoJobList를 완료시간 기준으로 정렬하여 carRepairInfoFinishTimeSortedList에 저장
-     */
-    private void sortCarRepairInfoByFinishTime() {
-        // 먼저 기존 데이터의 빈 문자열을 정리
-        cleanupEmptyStringsInData();
-        
-        // synchronized 블록에서 안전한 스냅샷 생성
-        List<CarRepairInfo> snapshot;
-        synchronized(this) {
-            snapshot = new ArrayList<>(carRepairInfoJobList);
-        }
-        
-        // ✅ 동기식으로 즉시 처리
-        carRepairInfoFinishTimeSortedList.clear();
-        carRepairInfoFinishTimeSortedList.addAll(snapshot);
-        
-        Collections.sort(carRepairInfoFinishTimeSortedList, new Comparator<CarRepairInfo>() {
-            @Override
-            public int compare(CarRepairInfo info1, CarRepairInfo info2) {
-                // 완료된 작업은 맨 앞으로
-                if (info1.getRepairStatus() == CarRepairInfo.RepairStatus.COMPLETED && 
-                    info2.getRepairStatus() != CarRepairInfo.RepairStatus.COMPLETED) {
-                    return -1;  // info1이 완료된 경우 앞으로
-                }
-                if (info2.getRepairStatus() == CarRepairInfo.RepairStatus.COMPLETED && 
-                    info1.getRepairStatus() != CarRepairInfo.RepairStatus.COMPLETED) {
-                    return 1;   // info2가 완료된 경우 info2가 앞으로
-                }
-                
-                // 둘 다 완료된 경우 또는 둘 다 진행 중인 경우
-                if (info1.getRepairStatus() == CarRepairInfo.RepairStatus.COMPLETED && 
-                    info2.getRepairStatus() == CarRepairInfo.RepairStatus.COMPLETED) {
-                    // 완료된 작업들끼리는 차량번호 순으로 정렬
-                    return info1.getLicensePlateNumber().compareTo(info2.getLicensePlateNumber());
-                }
-                
-                // 둘 다 진행 중인 경우: 완료시간 기준 정렬 (null은 맨 뒤로)
-                if (info1.getEstimatedFinishTime() == null && info2.getEstimatedFinishTime() == null) {
-                    return 0;
-                }
-                if (info1.getEstimatedFinishTime() == null) {
-                    return 1;
-                }
-                if (info2.getEstimatedFinishTime() == null) {
-                    return -1;
-                }
-                
-                try {
-                    Integer thisTimeInSeconds = CarRepairInfo.parseTimeToSeconds(info1.getEstimatedFinishTime());
-                    Integer otherTimeInSeconds = CarRepairInfo.parseTimeToSeconds(info2.getEstimatedFinishTime());
-
-                    if (thisTimeInSeconds == null && otherTimeInSeconds == null) return 0;
-                    if (thisTimeInSeconds == null) return 1;
-                    if (otherTimeInSeconds == null) return -1;
-
-                    return Integer.compare(thisTimeInSeconds, otherTimeInSeconds);
-                } catch (Exception e) {
-                    Timber.e(e, "Error parsing time during sorting: info1=%s, info2=%s", 
-                            info1.getEstimatedFinishTime(), info2.getEstimatedFinishTime());
-                    // 에러 발생 시 차량번호로 정렬
-                    return info1.getLicensePlateNumber().compareTo(info2.getLicensePlateNumber());
-                }
-            }
-        });
-        
-        Timber.i("Sorted repair info list synchronously. Total items: %d", carRepairInfoFinishTimeSortedList.size());
-        
-        // 정렬 결과 디버그 로그
-        for (int i = 0; i < carRepairInfoFinishTimeSortedList.size(); i++) {
-            CarRepairInfo info = carRepairInfoFinishTimeSortedList.get(i);
-            // EstimatedFinishTime과 RequestedTime에 대한 안전한 처리
-            String requestedTimeStr = (info.getRequestedTime() != null && !info.getRequestedTime().trim().isEmpty()) ?
-                    CarRepairInfo.formatSecondsToTime(CarRepairInfo.parseTimeToSeconds(info.getRequestedTime())) : "null";
-            String estimatedFinishTimeStr = (info.getEstimatedFinishTime() != null && !info.getEstimatedFinishTime().trim().isEmpty()) ?
-                    CarRepairInfo.formatSecondsToTime(CarRepairInfo.parseTimeToSeconds(info.getEstimatedFinishTime())) : "null";
-            
-            Timber.d("Sorted[%d]: %s %s - %s (RequestedTime: %s, EstimatedFinishTime: %s)", 
-                i, 
-                info.getLicensePlateNumber(), 
-                info.getCarModel(), 
-                info.getRepairStatus().name(),
-                requestedTimeStr,
-                estimatedFinishTimeStr
-            );
+    private void logCarRepairInfoFinishTimeOrder() {
+        // DEBUG 미만이면 항목 순회 자체를 하지 않음
+        if (!StructuredLog.isEnabled(Log.DEBUG)) {
+            return;
         }
-    }
-
-    /**
-     * currentPageIndex를 기준으로 4개씩 carRepairInfoDisplayList에 설정
-     */
-    private void updateDisplayListForCurrentPage() {
-        // ✅ 데이터 일관성 체크
-        Timber.d("Before display update - JobList: %d, SortedList: %d, CurrentPage: %d", 
-                carRepairInfoJobList.size(), carRepairInfoFinishTimeSortedList.size(), currentPageIndex);
-        
-        carRepairInfoDisplayList.clear();
-        
-        int startIndex = currentPageIndex * ITEMS_PER_PAGE;
-        int endIndex = Math.min(startIndex + ITEMS_PER_PAGE, carRepairInfoFinishTimeSortedList.size());
-        
-        for (int i = startIndex; i < endIndex; i++) {
-            carRepairInfoDisplayList.add(carRepairInfoFinishTimeSortedList.get(i));
+        List<CarRepairInfo> ordered = displayFrame.getSnapshot().getItems();
+        for (int i = 0; i < ordered.size(); i++) {
+            CarRepairInfo info = ordered.get(i);
+            // 시간 정보가 없으면 null로 기록
+            StructuredLog.d("display.order")
+                    .kv("index", i)
+                    .kv("plate", info.getLicensePlateNumber())
+                    .kv("model", info.getCarModel())
+                    .kv("status", info.getRepairStatus() != null ? info.getRepairStatus().name() : null)
+                    .kv("requestedTime", info.getRequestedTime())
+                    .kv("estimatedFinishTime", info.getEstimatedFinishTime())
+                    .log();
         }
-        
-        Timber.i("Updated display list for page %d. Items %d-%d (total: %d)", 
-            currentPageIndex, startIndex, endIndex - 1, carRepairInfoDisplayList.size());
     }
 
     /**
-     * 다음 페이지로 이동하거나 처음부터 다시 시작
+     * 다음 페이지로 이동하거나 처음부터 다시 시작하고, 화면에 현재 페이지가 표시되는 동안 다음 페이지를 미리 준비
      */
     private void moveToNextPageOrRestart() {
-        currentPageIndex++;
-        int totalPages = (int) Math.ceil((double) carRepairInfoFinishTimeSortedList.size() / ITEMS_PER_PAGE);
+        int totalCount = displayFrame.getTotalCount();
+        int totalPages = displayFrame.getPageCount();
+        currentPageIndex = displayFrame.getNextPageIndex();
         
-        if (currentPageIndex >= totalPages) {
-            currentPageIndex = 0;
+        if (currentPageIndex == 0) {
             Timber.i("Page cycle completed. Restarting from page 0. Total pages: %d, Data count: %d", 
-                    totalPages, carRepairInfoFinishTimeSortedList.size());
+                    totalPages, totalCount);
         } else {
             Timber.i("Moving to next page: %d/%d (Data count: %d)", 
-                    currentPageIndex + 1, totalPages, carRepairInfoFinishTimeSortedList.size());
+                    currentPageIndex + 1, totalPages, totalCount);
         }
+        statusBoardFramePreparer.prepare(currentPageIndex);
     }
 
     /**
@@ -572,17 +512,8 @@ public class AddOnBluehands {
      */
     public void addCarRepairInfo(CarRepairInfo carRepairInfo) {
         if (carRepairInfo != null) {
-            // 빈 문자열을 null로 정리
-            if (carRepairInfo.getEstimatedFinishTime() != null && carRepairInfo.getEstimatedFinishTime().trim().isEmpty()) {
-                carRepairInfo.setEstimatedFinishTime(null);
-                Timber.d("Cleaned empty EstimatedFinishTime to null for %s", carRepairInfo.getLicensePlateNumber());
-            }
-            if (carRepairInfo.getRequestedTime() != null && carRepairInfo.getRequestedTime().trim().isEmpty()) {
-                carRepairInfo.setRequestedTime(null);
-                Timber.d("Cleaned empty RequestedTime to null for %s", carRepairInfo.getLicensePlateNumber());
-            }
-            
-            carRepairInfoJobList.add(carRepairInfo);
+            // 빈 시간 문자열은 CarRepairInfo 생성/설정 시점에 이미 '시간 없음'으로 파싱됨
+            carRepairInfoStore.put(carRepairInfo);
             Timber.i("Added new repair info: %s %s (Thread: %s)", 
                 carRepairInfo.getLicensePlateNumber(), 
                 carRepairInfo.getCarModel(),
@@ -595,8 +526,7 @@ public class AddOnBluehands {
      * 외부 스레드에서 호출 가능
      */
     public boolean removeCarRepairInfo(String licensePlateNumber) {
-        boolean removed = carRepairInfoJobList.removeIf(info -> 
-            info.getLicensePlateNumber().equals(licensePlateNumber));
+        boolean removed = carRepairInfoStore.remove(licensePlateNumber) != null;
         
         if (removed) {
             Timber.i("Removed repair info: %s (Thread: %s)", 
@@ -609,78 +539,104 @@ public class AddOnBluehands {
      * 스레드 안전하게 수리 정보를 업데이트 (상태나 완료시간 변경)
      * 외부 스레드에서 호출 가능
      */
-    public synchronized boolean updateCarRepairInfo(String licensePlateNumber, CarRepairInfo.RepairStatus newStatus, Integer newFinishTime) {
-        for (int i = 0; i < carRepairInfoJobList.size(); i++) {
-            CarRepairInfo info = carRepairInfoJobList.get(i);
-            if (info.getLicensePlateNumber().equals(licensePlateNumber)) {
-                
-                // 새로운 객체 생성 (불변성 유지)
-                CarRepairInfo updatedInfo = new CarRepairInfo(
+    public boolean updateCarRepairInfo(String licensePlateNumber, CarRepairInfo.RepairStatus newStatus, Integer newFinishTime) {
+        // 새로운 객체 생성 후 원자적 교체 (불변성 유지)
+        CarRepairInfo updatedInfo = carRepairInfoStore.update(licensePlateNumber, info -> {
+            CarRepairInfo newInfo = new CarRepairInfo(
                     newStatus != null ? newStatus : info.getRepairStatus(),
                     info.getLicensePlateNumber(),
                     info.getCarModel(),
-                    info.getRequestedTime(),
-                    newFinishTime != null ? CarRepairInfo.formatSecondsToTime(newFinishTime) : info.getEstimatedFinishTime()
-                );
-                
-                // 원자적 교체
-                carRepairInfoJobList.set(i, updatedInfo);
-                
-                Timber.i("Updated repair info: %s, Status: %s, Time: %s (Thread: %s)", 
-                    licensePlateNumber, newStatus, newFinishTime, Thread.currentThread().getName());
-                return true;
-            }
+                    null,
+                    null);
+            newInfo.setRequestedSeconds(info.getRequestedSeconds());
+            newInfo.setEstimatedFinishSeconds(newFinishTime != null ? newFinishTime : info.getEstimatedFinishSeconds());
+            return newInfo;
+        });
+        if (updatedInfo == null) {
+            return false;
         }
-        return false;
+
+        Timber.i("Updated repair info: %s, Status: %s, Time: %s (Thread: %s)", 
+            licensePlateNumber, newStatus, newFinishTime, Thread.currentThread().getName());
+        return true;
     }
 
     /**
-     * REST API용: 모든 차량 정보 조회
+     * REST API용: 모든 차량 정보 조회 (표시 순서, 수정 불가 목록)
      */
     public List<CarRepairInfo> getAllCarRepairInfo() {
-        return new ArrayList<>(carRepairInfoJobList);
+        return carRepairInfoStore.orderedValues();
+    }
+
+    /**
+     * REST API용: 현재 버전의 불변 스냅샷 조회
+     */
+    public CarRepairInfoStore.Snapshot getCarRepairInfoSnapshot() {
+        return carRepairInfoStore.getSnapshot();
+    }
+
+    /**
+     * REST API용: sinceVersion 이후의 변경분 (보관 범위를 벗어났으면 null - 전체 스냅샷 사용)
+     */
+    public CarRepairInfoChangeLog.Delta getCarRepairInfoChangesSince(long sinceVersion) {
+        return carRepairInfoChangeLog.since(sinceVersion);
+    }
+
+    /**
+     * REST API용: 저장소 변경 구독 (변경 스트림 등)
+     * 리스너는 저장소 쓰기 락 안에서 호출되므로 빠르게 반환해야 함
+     */
+    public void addCarRepairInfoChangeListener(CarRepairInfoStore.ChangeListener listener) {
+        carRepairInfoStore.addChangeListener(listener);
+    }
+
+    public void removeCarRepairInfoChangeListener(CarRepairInfoStore.ChangeListener listener) {
+        carRepairInfoStore.removeChangeListener(listener);
+    }
+
+    /**
+     * 메트릭용: 마지막 스냅샷(표시 순서 목록) 생성 소요 시간 (나노초)
+     */
+    public long getLastCarRepairInfoSnapshotBuildNanos() {
+        return carRepairInfoStore.getLastSnapshotBuildNanos();
+    }
+
+    /**
+     * REST API/메트릭용: 현황판 화면 갱신 주기 측정값
+     */
+    public RenderMetrics getRenderMetrics() {
+        return renderMetrics;
+    }
+
+    /**
+     * 완료 작업 자동 만료로 제거된 누적 건수 (만료 미사용 시 0)
+     */
+    public long getExpiredCarRepairInfoCount() {
+        return carRepairInfoExpiry != null ? carRepairInfoExpiry.getEvictedCount() : 0;
     }
 
     /**
      * REST API용: 특정 차량 정보 조회
      */
-    public synchronized CarRepairInfo getCarRepairInfoByPlate(String licensePlateNumber) {
-        for (CarRepairInfo info : carRepairInfoJobList) {
-            if (info.getLicensePlateNumber().equals(licensePlateNumber)) {
-                return info;
-            }
-        }
-        return null;
+    public CarRepairInfo getCarRepairInfoByPlate(String licensePlateNumber) {
+        return carRepairInfoStore.get(licensePlateNumber);
     }
 
     /**
      * REST API용: 차량 정보 추가 (중복 체크 포함)
      */
-    public synchronized boolean addCarRepairInfoApi(CarRepairInfo carRepairInfo) {
+    public boolean addCarRepairInfoApi(CarRepairInfo carRepairInfo) {
         if (carRepairInfo == null || carRepairInfo.getLicensePlateNumber() == null || carRepairInfo.getLicensePlateNumber().trim().isEmpty()) {
             Timber.w("Invalid car repair info: %s", carRepairInfo);
             return false;
         }
         
-        // 빈 문자열을 null로 정리 (API 추가 시점에서 강제 정리)
-        if (carRepairInfo.getEstimatedFinishTime() != null && carRepairInfo.getEstimatedFinishTime().trim().isEmpty()) {
-            carRepairInfo.setEstimatedFinishTime(null);
-            Timber.d("API: Cleaned empty EstimatedFinishTime to null for %s", carRepairInfo.getLicensePlateNumber());
-        }
-        if (carRepairInfo.getRequestedTime() != null && carRepairInfo.getRequestedTime().trim().isEmpty()) {
-            carRepairInfo.setRequestedTime(null);
-            Timber.d("API: Cleaned empty RequestedTime to null for %s", carRepairInfo.getLicensePlateNumber());
-        }
-        
         // 중복 체크와 추가를 원자적으로 처리
-        for (CarRepairInfo existing : carRepairInfoJobList) {
-            if (existing.getLicensePlateNumber().equals(carRepairInfo.getLicensePlateNumber())) {
-                Timber.w("Car repair info already exists: %s", carRepairInfo.getLicensePlateNumber());
-                return false;
-            }
+        if (!carRepairInfoStore.add(carRepairInfo)) {
+            Timber.w("Car repair info already exists: %s", carRepairInfo.getLicensePlateNumber());
+            return false;
         }
         
-        carRepairInfoJobList.add(carRepairInfo);
         Timber.i("Added new repair info via API: %s %s (EstimatedFinishTime: %s, Thread: %s)", 
             carRepairInfo.getLicensePlateNumber(), 
             carRepairInfo.getCarModel(),
@@ -692,49 +648,44 @@ public class AddOnBluehands {
     /**
      * REST API용: 차량 정보 완전 업데이트
      */
-    public synchronized boolean updateCarRepairInfoApi(String licensePlateNumber, CarRepairInfo newInfo) {
-        for (int i = 0; i < carRepairInfoJobList.size(); i++) {
-            CarRepairInfo existing = carRepairInfoJobList.get(i);
-            if (existing.getLicensePlateNumber().equals(licensePlateNumber)) {
-                newInfo.setLicensePlateNumber(licensePlateNumber);
-                carRepairInfoJobList.set(i, newInfo);
-                
-                Timber.i("Updated repair info via API: %s (Thread: %s)", 
-                    licensePlateNumber, Thread.currentThread().getName());
-                return true;
-            }
+    public boolean updateCarRepairInfoApi(String licensePlateNumber, CarRepairInfo newInfo) {
+        // 기존 항목의 차량번호 표기를 유지하며 원자적으로 교체
+        CarRepairInfo updatedInfo = carRepairInfoStore.update(licensePlateNumber, existing -> {
+            newInfo.setLicensePlateNumber(existing.getLicensePlateNumber());
+            return newInfo;
+        });
+        if (updatedInfo == null) {
+            return false;
         }
-        return false;
+
+        Timber.i("Updated repair info via API: %s (Thread: %s)", 
+            licensePlateNumber, Thread.currentThread().getName());
+        return true;
+    }
+
+    /**
+     * REST API용: 여러 추가/수정/삭제를 한 번에 적용 (버전 하나, 화면 갱신 한 번)
+     * 하나라도 실패하면 아무것도 적용하지 않음
+     */
+    public CarRepairInfoStore.BatchResult applyCarRepairInfoBatchApi(List<CarRepairInfoStore.BatchOperation> operations) {
+        CarRepairInfoStore.BatchResult result = carRepairInfoStore.applyBatch(operations);
+        Timber.i("Applied repair info batch via API: %d/%d applied, version: %d (Thread: %s)",
+            result.getAppliedCount(), operations.size(), result.getVersion(), Thread.currentThread().getName());
+        return result;
     }
 
     /**
      * REST API용: 차량 정보 삭제
      */
-    public synchronized boolean deleteCarRepairInfoApi(String licensePlateNumber) {
+    public boolean deleteCarRepairInfoApi(String licensePlateNumber) {
         return removeCarRepairInfo(licensePlateNumber);
     }
 
     private void updateStatusSummaryFromFinishTimeSortedList() {
-        int doneCount = 0, inspectCount = 0, workingCount = 0;
-
-        // carRepairInfoFinishTimeSortedList에서 상태별 개수 계산
-        for (CarRepairInfo info : carRepairInfoFinishTimeSortedList) {
-            switch (info.getRepairStatus()) {
-                case COMPLETED:
-                    doneCount++;
-                    break;
-                case FINAL_INSPECTION:
-                    inspectCount++;
-                    break;
-                case IN_PROGRESS:
-                    workingCount++;
-                    break;
-            }
-        }
-
-        // String을 미리 생성
-        final String statusText = String.format("작업완료: %d대, 최종점검: %d대, 작업중: %d대",
-                doneCount, inspectCount, workingCount);
+        // 게시된 최신 스냅샷의 상태별 개수 사용 (저장소가 변경 시 함께 갱신, 순회 없음)
+        CarRepairInfoStore.Snapshot snapshot = carRepairInfoStore.getSnapshot();
+        List<CarRepairInfo> sortedList = snapshot.getItems();
+        final String statusText = buildStatusSummaryText(snapshot.getStatusCounts());
 
         // Status Summary UI 업데이트
         ((MainActivity) context).runOnUiThread(() -> {
@@ -744,10 +695,19 @@ public class AddOnBluehands {
         });
 
         // Car Repair Status Info List 업데이트
-        updateCarRepairStatusInfoDisplay();
+        updateCarRepairStatusInfoDisplay(sortedList);
     }
 
-    private void updateCarRepairStatusInfoDisplay() {
+    private static String buildStatusSummaryText(CarRepairInfoStore.StatusCounts counts) {
+        return new StringBuilder(48)
+                .append("작업완료: ").append(counts.getCompleted())
+                .append("대, 최종점검: ").append(counts.getFinalInspection())
+                .append("대, 작업중: ").append(counts.getInProgress())
+                .append("대")
+                .toString();
+    }
+
+    private void updateCarRepairStatusInfoDisplay(List<CarRepairInfo> sortedList) {
         if (carRepairStatusInfoText == null) return;
 
         StringBuilder infoBuilder = new StringBuilder();
@@ -765,15 +725,13 @@ public class AddOnBluehands {
         }
         infoBuilder.append("\n");
 
-        for (int i = 0; i < carRepairInfoFinishTimeSortedList.size(); i++) {
-            CarRepairInfo info = carRepairInfoFinishTimeSortedList.get(i);
+        for (int i = 0; i < sortedList.size(); i++) {
+            CarRepairInfo info = sortedList.get(i);
             String maskedPlate = info.getLicensePlateNumber();
             
-            // 빈 문자열도 null로 처리하여 표시
-            String requestedTimeDisplay = (info.getRequestedTime() != null && !info.getRequestedTime().trim().isEmpty()) ?
-                    info.getRequestedTime() : "null";
-            String estimatedFinishTimeDisplay = (info.getEstimatedFinishTime() != null && !info.getEstimatedFinishTime().trim().isEmpty()) ?
-                    info.getEstimatedFinishTime() : "null";
+            // 시간 정보가 없으면 "null"로 표시
+            String requestedTimeDisplay = info.getRequestedTime() != null ? info.getRequestedTime() : "null";
+            String estimatedFinishTimeDisplay = info.getEstimatedFinishTime() != null ? info.getEstimatedFinishTime() : "null";
             
             String line = String.format("Sorted[%d]: %s %s - %s (RequestedTime: %s, EstimatedFinishTime: %s)\n",
                     i,
@@ -887,128 +845,180 @@ public class AddOnBluehands {
         }
     }
 
-    // ✅ 동기화된 WebView 업데이트 메서드
+    // ✅ 표시 중인 셀과 비교하여 바뀐 셀만 페이지의 render()에 JSON으로 전달
     private void updateRepairStatusWebViewWithSync() {
         long startTimeNanos = System.nanoTime();
-        
-        // ✅ 항상 먼저 테이블을 완전히 초기화 (동기화 문제 해결)
-        String jsInitialize = "(function(){try{" +
-                "var t=document.querySelector('table');if(!t)return;" +
-                "var r=t.rows;" +
-                "if(r.length>=3){" +
-                "for(var i=0;i<4;i++){" +
-                "var h=r[0].cells[i]; if(h){h.textContent=''; h.className='h empty';}" +
-                "var p=r[1].cells[i]; if(p){p.textContent=''; p.className='empty';}" +
-                "var s=r[2].cells[i]; if(s){s.innerHTML=''; s.className='empty';}}" +
-                "}" +
-                "}catch(e){console.error('Table initialization error:', e);} " +
-                "return 'table_initialized';})();";
-        
-        // 데이터가 없으면 테이블을 숨기고 초기화만 수행
-        if (carRepairInfoDisplayList.isEmpty()) {
-            String jsHide = jsInitialize.replace("return 'table_initialized';", 
-                    "t.style.display='none'; return 'empty_completed';");
-            
-            repairStatusWebView.evaluateJavascript(jsHide, new ValueCallback<String>() {
-                @Override
-                public void onReceiveValue(String result) {
-                    long endTimeNanos = System.nanoTime();
-                    double durationMs = (endTimeNanos - startTimeNanos) / 1_000_000.0;
-                    Timber.d("🔄 WebView table cleared and hidden: %.2f ms, result: %s", 
-                            durationMs, result);
-                    
-                    // ✅ JavaScript 완료 후 다음 단계 진행
-                    onWebViewUpdateCompleted();
-                }
-            });
+        // 셀 내용은 프레임에 준비되어 있으므로 여기서는 바뀐 셀 비교와 JSON 직렬화만 수행
+        String payload = statusBoardModel.buildRenderPayload(displayFrame.getCells(), displayFrame.isVisible());
+
+        if (payload == null) {
+            // 표시 내용이 그대로면 WebView를 호출하지 않음
+            StructuredLog.d("render.unchanged").kv("page", currentPageIndex).log();
+            onWebViewUpdateCompleted(false);
             return;
         }
 
-        // ✅ 데이터가 있으면: 1) 초기화 -> 2) 데이터 채우기 (2단계로 분리)
-        repairStatusWebView.evaluateJavascript(jsInitialize, new ValueCallback<String>() {
+        // ✅ 페이지가 변경이 그려진 프레임을 확인한 뒤 응답하면 다음 단계 진행
+        if (statusBoardChannel != null
+                && statusBoardChannel.send(StatusBoardChannel.TYPE_RENDER, payload, this::onStatusBoardRendered)) {
+            return;
+        }
+
+        // 채널 연결 전(페이지 로드 중)에는 render()를 직접 호출하고 실행 완료 시 진행
+        repairStatusWebView.evaluateJavascript(buildRenderCall(payload), new ValueCallback<String>() {
             @Override
-            public void onReceiveValue(String initResult) {
-                Timber.v("Table initialized, now filling data...");
-                
-                // 2단계: 실제 데이터로 테이블 채우기
-                fillTableWithDataSync(startTimeNanos);
+            public void onReceiveValue(String result) {
+                long endTimeNanos = System.nanoTime();
+                renderMetrics.recordFillJsNanos(endTimeNanos - startTimeNanos);
+                StructuredLog.d("render.fill")
+                        .kv("durationMs", (endTimeNanos - startTimeNanos) / 1_000_000.0)
+                        .kv("count", displayFrame.getItems().size())
+                        .kv("result", result)
+                        .log();
+
+                if (!"\"update_completed\"".equals(result)) {
+                    // 페이지가 준비되지 않았거나 오류 - 다음 주기에 전체를 다시 보냄
+                    Timber.w("Status board update not applied (result: %s), resending all cells next time", result);
+                    statusBoardModel.invalidate();
+                }
+                onWebViewUpdateCompleted(true);
             }
         });
     }
 
-    // ✅ 동기화된 테이블 데이터 채우기
-    private void fillTableWithDataSync(long startTimeNanos) {
-        StringBuilder jsBuilder = new StringBuilder();
-        jsBuilder.append("(function(){try{" +
-                "var t=document.querySelector('table');if(!t)return;" +
-                "t.style.display='table';" +
-                "var r=t.rows;" +
-                "if(r.length>=3){");
-
-        // 최대 4개의 컬럼까지 처리
-        for (int i = 0; i < 4; i++) {
-            if (i < carRepairInfoDisplayList.size()) {
-                // 데이터가 있는 경우
-                CarRepairInfo carInfo = carRepairInfoDisplayList.get(i);
-                
-                // 상태에 따른 CSS 클래스 결정
-                String statusClass = getStatusClass(carInfo.getRepairStatus());
-                String statusText = getStatusText(carInfo.getRepairStatus());
-                
-                // 헤더 업데이트 (첫 번째 행)
-                jsBuilder.append(String.format("var h%d=r[0].cells[%d]; if(h%d){h%d.textContent='%s'; h%d.className='h %s';}", 
-                        i, i, i, i, statusText, i, statusClass));
-                
-                // 차량 정보 업데이트 (두 번째 행) - 차량 번호 마스킹 적용
-                String maskedPlate = maskLicensePlate(carInfo.getLicensePlateNumber());
-                String plateAndModel = maskedPlate + " " + carInfo.getCarModel();
-                jsBuilder.append(String.format("var p%d=r[1].cells[%d]; if(p%d){p%d.textContent='%s'; p%d.className='plate';}", 
-                        i, i, i, i, plateAndModel, i));
-                
-                // 상태 정보 업데이트 (세 번째 행)
-                String statusInfo = getStatusInfoText(carInfo);
-                jsBuilder.append(String.format("var s%d=r[2].cells[%d]; if(s%d){s%d.innerHTML='%s'; s%d.className='status';}", 
-                        i, i, i, i, statusInfo, i));
-            }
+    /**
+     * 메시지 채널로 보낸 render 입력에 대한 페이지 응답 처리
+     * @param ack 페이지 응답, 시간 초과/재연결이면 null
+     */
+    private void onStatusBoardRendered(StatusBoardChannel.Ack ack) {
+        if (ack == null) {
+            // 그려졌는지 알 수 없음 - 다음 주기에 전체를 다시 보냄
+            renderMetrics.incrementAckTimeouts();
+            statusBoardModel.invalidate();
+            onWebViewUpdateCompleted(true);
+            return;
         }
-        
-        // ✅ 실제 DOM 렌더링 완료 확인을 위한 추가 코드
-        jsBuilder.append("}" +
-                // DOM 업데이트 후 실제 화면 상태 확인
-                "setTimeout(function(){" +
-                "var displayState = t.style.display;" +
-                "var visibleCells = 0;" +
-                "for(var i=0; i<4; i++){" +
-                "if(r[1].cells[i] && r[1].cells[i].textContent.trim() !== '') visibleCells++;" +
-                "}" +
-                "console.log('Display synchronized - table:', displayState, 'visible cells:', visibleCells);" +
-                "}, 10);" +
-                "}catch(e){console.error('Table fill error:', e);} " +
-                "return 'update_completed';})();");
-        
-        String js = jsBuilder.toString();
-        repairStatusWebView.evaluateJavascript(js, new ValueCallback<String>() {
-            @Override
-            public void onReceiveValue(String result) {
-                long endTimeNanos = System.nanoTime();
-                double durationMs = (endTimeNanos - startTimeNanos) / 1_000_000.0;
-                Timber.d("WebView table updated: %.2f ms (data count: %d), result: %s", 
-                        durationMs, carRepairInfoDisplayList.size(), result);
-                
-                // ✅ 추가 동기화 확인 후 다음 단계 진행
-                Handler syncHandler = new Handler(Looper.getMainLooper());
-                syncHandler.postDelayed(() -> {
-                    Timber.i("Display synchronization completed for page %d", currentPageIndex);
-                    onWebViewUpdateCompleted();
-                }, 50); // 50ms 추가 대기로 DOM 렌더링 완료 보장
+
+        renderMetrics.recordFillJsNanos(ack.getRoundTripNanos());
+        renderMetrics.recordFramePresentMs(ack.getFrameMs());
+        StructuredLog.d("render.fill")
+                .kv("durationMs", ack.getRoundTripNanos() / 1_000_000.0)
+                .kv("renderMs", ack.getRenderMs())
+                .kv("frameMs", ack.getFrameMs())
+                .kv("count", displayFrame.getItems().size())
+                .kv("result", ack.getResult())
+                .log();
+
+        if (!ack.isCompleted()) {
+            Timber.w("Status board update not applied (result: %s), resending all cells next time", ack.getResult());
+            statusBoardModel.invalidate();
+        }
+        Timber.i("Display synchronization completed for page %d", currentPageIndex);
+        onWebViewUpdateCompleted(true);
+    }
+
+    /**
+     * status_board.html의 render(page) 호출문 (페이지가 아직 로드되지 않았으면 'not_ready' 반환)
+     * payload는 JSON 데이터만 담으므로 매번 같은 짧은 호출문이 되고 render() 본문은 페이지에 상주함
+     */
+    private static String buildRenderCall(String payload) {
+        return "window.render?render(" + payload + "):'not_ready'";
+    }
+
+    /**
+     * 항목 하나의 열 셀 (상태 헤더, 차량번호/차종, 상태 정보)
+     * 프레임 준비 스레드에서도 호출되므로 인스턴스 상태를 사용하지 않음
+     */
+    private StatusBoardModel.Cell[] buildItemCells(CarRepairInfo carInfo) {
+        StatusBoardModel.Cell[] itemCells = new StatusBoardModel.Cell[StatusBoardModel.ROWS];
+        itemCells[StatusBoardModel.ROW_HEADER] = new StatusBoardModel.Cell(
+                getStatusText(carInfo.getRepairStatus()), "h " + getStatusClass(carInfo.getRepairStatus()));
+        // 차량 번호 마스킹 적용
+        itemCells[StatusBoardModel.ROW_PLATE] = new StatusBoardModel.Cell(
+                maskLicensePlate(carInfo.getLicensePlateNumber()) + " " + carInfo.getCarModel(), "plate");
+        itemCells[StatusBoardModel.ROW_STATUS] = getStatusInfoCell(carInfo);
+        return itemCells;
+    }
+
+    /**
+     * 페이지가 직접 넘기는 모드: 전체 목록 전달 예약 (저장소 쓰기 스레드에서도 호출되며, 몰린 변경은 한 번으로 합침)
+     */
+    private void requestBoardPush() {
+        if (boardPushPosted.compareAndSet(false, true)) {
+            periodicUpdateHandler.post(boardPushRunnable);
+        }
+    }
+
+    /**
+     * 마지막으로 전달한 이후 저장소가 바뀌었으면 정렬된 전체 목록을 페이지에 전달 (메인 스레드)
+     */
+    private void pushBoardIfChanged() {
+        boardPushPosted.set(false);
+        if (statusBoardChannel == null || !statusBoardChannel.isConnected()) {
+            // 페이지 로드가 끝나면 onPageFinished에서 다시 요청
+            return;
+        }
+        CarRepairInfoStore.Snapshot snapshot = carRepairInfoStore.getSnapshot();
+        long version = snapshot.getVersion();
+        if (version == pushedBoardVersion) {
+            return;
+        }
+
+        List<StatusBoardModel.Cell[]> items = new ArrayList<>(snapshot.size());
+        for (CarRepairInfo carInfo : snapshot.getItems()) {
+            items.add(buildItemCells(carInfo));
+        }
+        String payload = StatusBoardModel.buildBoardPayload(
+                version, ConfigManager.getInstance().getCarRepairInfoDisplayInterval(), items);
+        // 전송 전에 기록해야 이전 전송이 대체될 때의 응답(null)을 구분할 수 있음
+        pushedBoardVersion = version;
+        statusBoardChannel.send(StatusBoardChannel.TYPE_BOARD, payload, ack -> onBoardPushed(ack, version, items.size()));
+    }
+
+    /**
+     * 전체 목록 전달에 대한 페이지 응답 처리 (반영되지 않았으면 잠시 후 다시 전달)
+     */
+    private void onBoardPushed(StatusBoardChannel.Ack ack, long version, int count) {
+        if (ack == null || !ack.isCompleted()) {
+            // 더 새 목록 전송으로 대체된 경우는 무시
+            if (pushedBoardVersion == version) {
+                if (ack == null) {
+                    renderMetrics.incrementAckTimeouts();
+                }
+                Timber.w("Status board list (version %d) not applied (result: %s), retrying",
+                        version, ack != null ? ack.getResult() : null);
+                pushedBoardVersion = -1;
+                periodicUpdateHandler.removeCallbacks(boardRetryRunnable);
+                periodicUpdateHandler.postDelayed(boardRetryRunnable,
+                        ConfigManager.getInstance().getCarRepairInfoDisplayInterval());
             }
-        });
+            return;
+        }
+
+        renderMetrics.recordFillJsNanos(ack.getRoundTripNanos());
+        renderMetrics.recordFramePresentMs(ack.getFrameMs());
+        StructuredLog.d("render.board")
+                .kv("version", version)
+                .kv("count", count)
+                .kv("durationMs", ack.getRoundTripNanos() / 1_000_000.0)
+                .kv("renderMs", ack.getRenderMs())
+                .kv("frameMs", ack.getFrameMs())
+                .log();
+        logRenderMetricsSummaryIfDue();
     }
 
     // ✅ WebView 업데이트 완료 후 처리 (메모리 관리 포함)
-    private void onWebViewUpdateCompleted() {
-        // ✅ 경량 메모리 정리 수행
-        performLightweightMemoryCleanup();
+    private void onWebViewUpdateCompleted(boolean webViewUpdated) {
+        if (pageCycleStartNanos != 0) {
+            renderMetrics.recordPageCycleNanos(System.nanoTime() - pageCycleStartNanos);
+            pageCycleStartNanos = 0;
+        }
+        logRenderMetricsSummaryIfDue();
+
+        // ✅ 경량 메모리 정리 수행 (WebView를 갱신한 경우만)
+        if (webViewUpdated) {
+            performLightweightMemoryCleanup();
+        }
         
         // ✅ 주기적 완전 메모리 재설정 확인
         performJavaScriptMemoryReset();
@@ -1022,10 +1032,20 @@ public class AddOnBluehands {
         scheduleNextUpdate();
     }
         
+    // 화면 갱신 측정값 요약을 일정 간격으로 한 줄 로그
+    private void logRenderMetricsSummaryIfDue() {
+        long now = System.currentTimeMillis();
+        if (now - lastRenderSummaryLogTime >= RENDER_SUMMARY_LOG_INTERVAL_MS) {
+            lastRenderSummaryLogTime = now;
+            Timber.i("📊 %s, prepared frames hit/miss: %d/%d", renderMetrics.toSummaryString(),
+                    statusBoardFramePreparer.getPreparedHits(), statusBoardFramePreparer.getPreparedMisses());
+        }
+    }
+
     private void scheduleNextUpdate() {
         long interval = ConfigManager.getInstance().getCarRepairInfoDisplayInterval();
         periodicUpdateHandler.postDelayed(periodicUpdateRunnable, interval);
-        Timber.v("Next update scheduled in %d ms", interval);
+        StructuredLog.v("render.scheduled").kv("intervalMs", interval).log();
     }
 
     // ✅ 매 업데이트마다 실행되는 경량 메모리 정리
@@ -1062,6 +1082,7 @@ public class AddOnBluehands {
         
         if (jsMemoryResetCounter >= JS_MEMORY_RESET_INTERVAL) {
             jsMemoryResetCounter = 0;
+            renderMetrics.incrementJsMemoryResets();
             
             if (repairStatusWebView != null) {
                 Timber.w("🔄 Performing complete JavaScript memory reset (cycle: %d)", jsMemoryResetCounter);
@@ -1116,6 +1137,8 @@ public class AddOnBluehands {
     private void performWebViewCompleteReset() {
         if (repairStatusWebView != null) {
             Timber.i("🔄 Performing complete WebView reset");
+            renderMetrics.incrementWebViewResets();
+            statusBoardModel.invalidate();
             
             // ✅ 캐시 및 히스토리 완전 정리
             repairStatusWebView.clearCache(true);
@@ -1175,6 +1198,7 @@ public class AddOnBluehands {
                     "return 'emergency_cleaned';" +
                     "})();";
             
+            statusBoardModel.invalidate();
             repairStatusWebView.evaluateJavascript(emergencyCleanup, result -> {
                 // 시스템 가비지 컬렉션 요청
                 System.gc();
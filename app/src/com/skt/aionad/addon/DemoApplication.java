@@ -12,6 +12,7 @@ import timber.log.Timber;
 import com.skt.aionad.addon.utils.ColorLogTree;
 import com.skt.aionad.addon.utils.ConfigManager;
 import com.skt.aionad.addon.utils.FileLoggingTree;
+import com.skt.aionad.addon.utils.StructuredLog;
 
 /**
  *
@@ -34,11 +35,16 @@ public class DemoApplication extends Application {
         Timber.i("Log Type: %s", config.getLogType());
         Timber.i("Log Max File Size: %d", config.getLogMaxFileSize());
         Timber.i("Log Max Backup Index: %d", config.getLogMaxBackupIndex());
+        Timber.i("Log Max Total Size: %d (compress: %b)", config.getLogMaxTotalSize(), config.isLogCompressEnabled());
+        Timber.i("Log Appender: %s", config.getLogAppender());
         Timber.i("Log Frontend Level: %s", config.getLogFrontendLevel());
+        Timber.i("Log Async: %b (buffer: %d, overflow: %s)", config.isLogAsyncEnabled(),
+                config.getLogAsyncBufferSize(), config.getLogAsyncOverflowPolicy());
         Timber.i("Monitor Enabled: %b", config.isMonitorEnabled());
         Timber.i("Monitor Interval: %d", config.getMonitorInterval());
         Timber.i("FullScreen enabled: %b", config.isFullScreenEnabled());
-        Timber.i("Car Repair Info Display Interval: %dms", config.getCarRepairInfoDisplayInterval());
+        Timber.i("Car Repair Info Display Interval: %dms (mode: %s)", config.getCarRepairInfoDisplayInterval(),
+                config.getCarRepairInfoDisplayMode());
         Timber.i("--------------------------");
     }
 
@@ -48,6 +54,8 @@ public class DemoApplication extends Application {
 
         String logType = config.getLogType().toLowerCase();
         String logLevel = config.getLogFrontendLevel();
+        // 구조화 로그는 레벨 미만이면 레코드를 만들지 않음
+        StructuredLog.setMinLevel(logLevel);
 
         // Plant console logger if type is "console" or "both".
         if (logType.equals("console") || logType.equals("both")) {
@@ -21,6 +21,7 @@ import android.view.MotionEvent;
 import android.content.Context;
 import android.content.Intent;
 import com.skt.aionad.addon.server.KtorServerService;
+import com.skt.aionad.addon.utils.FileLoggingTree;
 import timber.log.Timber;
 import androidx.appcompat.app.AppCompatActivity;
 import android.content.res.AssetManager;
@@ -155,6 +156,9 @@ public class MainActivity extends AppCompatActivity implements SurfaceHolder.Cal
             addOnBluehands.cleanup();
         }
 
+        // 비동기 파일 로그에 남은 내용 기록 요청
+        FileLoggingTree.flushAll();
+
         super.onDestroy();
     }
 
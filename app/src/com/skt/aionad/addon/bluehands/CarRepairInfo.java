@@ -11,11 +11,16 @@ public class CarRepairInfo implements Serializable, Comparable<CarRepairInfo> {
         IN_PROGRESS         // 작업중
     }
 
+    // 시간 정보가 없거나 유효하지 않음을 나타내는 값
+    public static final int NO_TIME = -1;
+
     private RepairStatus repairStatus;
     private String licensePlateNumber;
     private String carModel;
-    private String estimatedFinishTime; // "HH:mm:ss" 형식
-    private String requestedTime;       // "HH:mm:ss" 형식
+    // 시간은 생성/설정 시점에 한 번만 파싱하여 자정 기준 초로 보관
+    // "HH:mm:ss" 문자열은 JSON/화면 표시 시점에만 생성
+    private int estimatedFinishSeconds = NO_TIME;
+    private int requestedSeconds = NO_TIME;
 
     public CarRepairInfo() {
     }
@@ -28,8 +33,8 @@ public class CarRepairInfo implements Serializable, Comparable<CarRepairInfo> {
         this.repairStatus = repairStatus;
         this.licensePlateNumber = licensePlateNumber;
         this.carModel = carModel;
-        this.requestedTime = requestedTime;
-        this.estimatedFinishTime = estimatedFinishTime;
+        this.requestedSeconds = toSecondsOrNoTime(requestedTime);
+        this.estimatedFinishSeconds = toSecondsOrNoTime(estimatedFinishTime);
     }
 
     public RepairStatus getRepairStatus() {
@@ -56,80 +61,179 @@ public class CarRepairInfo implements Serializable, Comparable<CarRepairInfo> {
         this.carModel = carModel;
     }
 
+    // "HH:mm:ss" 형식, 시간 정보가 없으면 null
     public String getEstimatedFinishTime() {
-        return estimatedFinishTime;
+        return toTimeOrNull(estimatedFinishSeconds);
     }
 
     public void setEstimatedFinishTime(String estimatedFinishTime) {
-        this.estimatedFinishTime = estimatedFinishTime;
+        this.estimatedFinishSeconds = toSecondsOrNoTime(estimatedFinishTime);
     }
 
+    // "HH:mm:ss" 형식, 시간 정보가 없으면 null
     public String getRequestedTime() {
-        return requestedTime;
+        return toTimeOrNull(requestedSeconds);
     }
 
     public void setRequestedTime(String requestedTime) {
-        this.requestedTime = requestedTime;
+        this.requestedSeconds = toSecondsOrNoTime(requestedTime);
     }
 
-    // "HH:mm:ss" 또는 "HH:mm" -> 초(Integer). 유효하지 않으면 null 반환
-    public static Integer parseTimeToSeconds(String hhmmss) {
-        if (hhmmss == null) return null;
-        String s = hhmmss.trim();
-        if (s.isEmpty()) return null; // 빈 문자열 처리 추가
-        String[] parts = s.split(":");
-        
-        // "HH:mm:ss" 형식과 "HH:mm" 형식 모두 지원
-        if (parts.length == 2) {
-            // "HH:mm" 형식인 경우 초를 0으로 추가
-            try {
-                int h = Integer.parseInt(parts[0]);
-                int m = Integer.parseInt(parts[1]);
-                if (h < 0 || h > 23 || m < 0 || m > 59) return null;
-                return h * 3600 + m * 60; // 초는 0
-            } catch (NumberFormatException e) {
-                return null;
-            }
-        } else if (parts.length == 3) {
-            // "HH:mm:ss" 형식
-            try {
-                int h = Integer.parseInt(parts[0]);
-                int m = Integer.parseInt(parts[1]);
-                int sec = Integer.parseInt(parts[2]);
-                if (h < 0 || h > 23 || m < 0 || m > 59 || sec < 0 || sec > 59) return null;
-                return h * 3600 + m * 60 + sec;
-            } catch (NumberFormatException e) {
-                return null;
+    // 자정 기준 초, 시간 정보가 없으면 NO_TIME
+    public int getEstimatedFinishSeconds() {
+        return estimatedFinishSeconds;
+    }
+
+    public void setEstimatedFinishSeconds(int estimatedFinishSeconds) {
+        this.estimatedFinishSeconds = isValidSeconds(estimatedFinishSeconds) ? estimatedFinishSeconds : NO_TIME;
+    }
+
+    // 자정 기준 초, 시간 정보가 없으면 NO_TIME
+    public int getRequestedSeconds() {
+        return requestedSeconds;
+    }
+
+    public void setRequestedSeconds(int requestedSeconds) {
+        this.requestedSeconds = isValidSeconds(requestedSeconds) ? requestedSeconds : NO_TIME;
+    }
+
+    public boolean hasEstimatedFinishTime() {
+        return estimatedFinishSeconds != NO_TIME;
+    }
+
+    private static boolean isValidSeconds(int seconds) {
+        return seconds >= 0 && seconds < 24 * 3600;
+    }
+
+    private static int toSecondsOrNoTime(String hhmmss) {
+        return parseSecondsOfDay(hhmmss);
+    }
+
+    private static String toTimeOrNull(int seconds) {
+        return seconds != NO_TIME ? formatTime(seconds) : null;
+    }
+
+    /**
+     * "HH:mm:ss" 또는 "HH:mm" -> 자정 기준 초
+     * split/parseInt 없이 문자 단위로 스캔하며 객체를 할당하지 않음
+     * 앞뒤 공백은 무시, 유효하지 않으면 NO_TIME 반환
+     */
+    public static int parseSecondsOfDay(CharSequence hhmmss) {
+        if (hhmmss == null) return NO_TIME;
+        int start = 0;
+        int end = hhmmss.length();
+        while (start < end && Character.isWhitespace(hhmmss.charAt(start))) start++;
+        while (end > start && Character.isWhitespace(hhmmss.charAt(end - 1))) end--;
+        if (start == end) return NO_TIME;
+
+        int h = 0, m = 0, sec = 0;
+        int fieldCount = 0;
+        int value = -1; // 현재 필드 값 (-1: 아직 숫자 없음)
+        for (int i = start; i <= end; i++) {
+            char c = i < end ? hhmmss.charAt(i) : ':'; // 마지막 필드 종료 처리
+            if (c >= '0' && c <= '9') {
+                value = (value < 0 ? 0 : value * 10) + (c - '0');
+                if (value > 99) return NO_TIME;
+            } else if (c == ':') {
+                if (value < 0) return NO_TIME; // 빈 필드
+                switch (fieldCount) {
+                    case 0: h = value; break;
+                    case 1: m = value; break;
+                    case 2: sec = value; break;
+                    default: return NO_TIME; // 필드가 너무 많음
+                }
+                fieldCount++;
+                value = -1;
+            } else {
+                return NO_TIME;
             }
-        } else {
-            return null; // 잘못된 형식
         }
+
+        // "HH:mm:ss" 형식과 "HH:mm" 형식 모두 지원 ("HH:mm"은 초를 0으로)
+        if (fieldCount < 2) return NO_TIME;
+        if (h > 23 || m > 59 || sec > 59) return NO_TIME;
+        return h * 3600 + m * 60 + sec;
+    }
+
+    /**
+     * 자정 기준 초 -> "HH:mm:ss" (String.format 없이 char[]에 직접 기록)
+     */
+    public static String formatTime(int seconds) {
+        char[] buffer = new char[8];
+        writeTime(buffer, 0, seconds);
+        return new String(buffer);
+    }
+
+    /**
+     * 자정 기준 초 -> "HH:mm"
+     */
+    public static String formatHourMinute(int seconds) {
+        char[] buffer = new char[8];
+        writeTime(buffer, 0, seconds);
+        return new String(buffer, 0, 5);
+    }
+
+    /**
+     * 재사용 StringBuilder에 "HH:mm:ss" 추가
+     */
+    public static StringBuilder appendTime(StringBuilder sb, int seconds) {
+        int h = clampHour(seconds), m = clampMinute(seconds), s = clampSecond(seconds);
+        return sb.append((char) ('0' + h / 10)).append((char) ('0' + h % 10)).append(':')
+                .append((char) ('0' + m / 10)).append((char) ('0' + m % 10)).append(':')
+                .append((char) ('0' + s / 10)).append((char) ('0' + s % 10));
+    }
+
+    /**
+     * 재사용 버퍼의 offset 위치에 "HH:mm:ss" 8자를 기록
+     * 범위를 벗어난 값은 기존 formatSecondsToTime과 동일하게 각 필드를 잘라냄
+     */
+    public static void writeTime(char[] dst, int offset, int seconds) {
+        int h = clampHour(seconds), m = clampMinute(seconds), s = clampSecond(seconds);
+        dst[offset] = (char) ('0' + h / 10);
+        dst[offset + 1] = (char) ('0' + h % 10);
+        dst[offset + 2] = ':';
+        dst[offset + 3] = (char) ('0' + m / 10);
+        dst[offset + 4] = (char) ('0' + m % 10);
+        dst[offset + 5] = ':';
+        dst[offset + 6] = (char) ('0' + s / 10);
+        dst[offset + 7] = (char) ('0' + s % 10);
+    }
+
+    private static int clampHour(int seconds) {
+        return Math.max(0, Math.min(23, seconds / 3600));
+    }
+
+    private static int clampMinute(int seconds) {
+        return Math.max(0, Math.min(59, (seconds % 3600) / 60));
+    }
+
+    private static int clampSecond(int seconds) {
+        return Math.max(0, Math.min(59, seconds % 60));
+    }
+
+    // "HH:mm:ss" 또는 "HH:mm" -> 초(Integer). 유효하지 않으면 null 반환
+    // 호환용 래퍼: 새 코드는 parseSecondsOfDay 사용
+    public static Integer parseTimeToSeconds(String hhmmss) {
+        int seconds = parseSecondsOfDay(hhmmss);
+        return seconds != NO_TIME ? seconds : null;
     }
 
     // 초(Integer) -> "HH:mm:ss"
+    // 호환용 래퍼: 새 코드는 formatTime / appendTime 사용
     public static String formatSecondsToTime(Integer seconds) {
         if (seconds == null) return "";
-        int h = Math.max(0, Math.min(23, seconds / 3600));
-        int m = Math.max(0, Math.min(59, (seconds % 3600) / 60));
-        int s = Math.max(0, Math.min(59, seconds % 60));
-        return String.format("%02d:%02d:%02d", h, m, s);
+        return formatTime(seconds);
     }
 
     @Override
     public int compareTo(CarRepairInfo o) {
         if (o == null) return -1;
-        if (this.estimatedFinishTime == null && o.estimatedFinishTime == null) return 0;
-        if (this.estimatedFinishTime == null) return 1;
-        if (o.estimatedFinishTime == null) return -1;
-
-        Integer thisTimeInSeconds = parseTimeToSeconds(this.estimatedFinishTime);
-        Integer otherTimeInSeconds = parseTimeToSeconds(o.estimatedFinishTime);
-
-        if (thisTimeInSeconds == null && otherTimeInSeconds == null) return 0;
-        if (thisTimeInSeconds == null) return 1;
-        if (otherTimeInSeconds == null) return -1;
+        // 시간 정보가 없는 항목은 뒤로
+        if (this.estimatedFinishSeconds == NO_TIME && o.estimatedFinishSeconds == NO_TIME) return 0;
+        if (this.estimatedFinishSeconds == NO_TIME) return 1;
+        if (o.estimatedFinishSeconds == NO_TIME) return -1;
 
-        return Integer.compare(thisTimeInSeconds, otherTimeInSeconds);
+        return Integer.compare(this.estimatedFinishSeconds, o.estimatedFinishSeconds);
     }
 
     @Override
@@ -140,13 +244,13 @@ public class CarRepairInfo implements Serializable, Comparable<CarRepairInfo> {
         return repairStatus == that.repairStatus
                 && Objects.equals(licensePlateNumber, that.licensePlateNumber)
                 && Objects.equals(carModel, that.carModel)
-                && Objects.equals(estimatedFinishTime, that.estimatedFinishTime)
-                && Objects.equals(requestedTime, that.requestedTime);
+                && estimatedFinishSeconds == that.estimatedFinishSeconds
+                && requestedSeconds == that.requestedSeconds;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(repairStatus, licensePlateNumber, carModel, estimatedFinishTime, requestedTime);
+        return Objects.hash(repairStatus, licensePlateNumber, carModel, estimatedFinishSeconds, requestedSeconds);
     }
 
     @Override
@@ -155,8 +259,8 @@ public class CarRepairInfo implements Serializable, Comparable<CarRepairInfo> {
                 "repairStatus=" + repairStatus +
                 ", licensePlateNumber='" + licensePlateNumber + '\'' +
                 ", carModel='" + carModel + '\'' +
-                ", estimatedFinishTime='" + estimatedFinishTime + '\'' +
-                ", requestedTime='" + requestedTime + '\'' +
+                ", estimatedFinishTime='" + getEstimatedFinishTime() + '\'' +
+                ", requestedTime='" + getRequestedTime() + '\'' +
                 '}';
     }
 }
\ No newline at end of file
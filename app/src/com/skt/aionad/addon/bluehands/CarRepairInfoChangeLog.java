@@ -0,0 +1,110 @@
+package com.skt.aionad.addon.bluehands;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * 최근 저장소 변경 내역 (고정 크기 링 버퍼)
+ * 특정 버전 이후의 변경만 차량번호별 최신 상태로 모아 돌려줌 (삭제는 info가 null인 tombstone)
+ * 요청 버전이 보관 범위를 벗어났거나 그 사이에 CLEAR가 있었으면 null을 돌려주어 전체 스냅샷을 쓰도록 함
+ */
+public class CarRepairInfoChangeLog implements CarRepairInfoStore.ChangeListener {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final CarRepairInfoStore.Change[] ring;
+    // 다음에 기록할 위치와 보관 중인 개수 (this 락 안에서만 접근)
+    private int head = 0;
+    private int size = 0;
+    // 이 버전 이하의 변경은 보관하지 않음 (이 버전 이후 요청만 변경분으로 응답 가능)
+    private long baseVersion;
+    // 마지막으로 기록된 변경 버전
+    private long lastVersion;
+
+    /**
+     * 특정 버전 이후의 변경분
+     */
+    public static final class Delta {
+        private final long sinceVersion;
+        private final long version;
+        private final List<CarRepairInfoStore.Change> changes;
+
+        Delta(long sinceVersion, long version, List<CarRepairInfoStore.Change> changes) {
+            this.sinceVersion = sinceVersion;
+            this.version = version;
+            this.changes = changes;
+        }
+
+        public long getSinceVersion() {
+            return sinceVersion;
+        }
+
+        // 변경분을 모두 적용한 뒤의 저장소 버전 (다음 요청의 since로 사용)
+        public long getVersion() {
+            return version;
+        }
+
+        // 차량번호별 마지막 변경 (버전 순서, DELETE는 info가 null)
+        public List<CarRepairInfoStore.Change> getChanges() {
+            return changes;
+        }
+    }
+
+    /**
+     * @param startVersion 기록을 시작하는 시점의 저장소 버전 (복원된 버전)
+     */
+    public CarRepairInfoChangeLog(int capacity, long startVersion) {
+        this.ring = new CarRepairInfoStore.Change[Math.max(1, capacity)];
+        this.baseVersion = startVersion;
+        this.lastVersion = startVersion;
+    }
+
+    // 저장소 쓰기 락 안에서 버전 순서대로 호출됨
+    @Override
+    public synchronized void onChange(CarRepairInfoStore.Change change) {
+        lastVersion = change.getVersion();
+        if (change.getType() == CarRepairInfoStore.ChangeType.CLEAR) {
+            // CLEAR 이전 버전에서는 변경분으로 따라올 수 없음
+            Arrays.fill(ring, null);
+            head = 0;
+            size = 0;
+            baseVersion = change.getVersion();
+            return;
+        }
+        if (size == ring.length) {
+            // 가장 오래된 변경을 덮어쓰므로 그 버전 이전 요청은 더 이상 변경분으로 응답 불가
+            baseVersion = Math.max(baseVersion, ring[head].getVersion());
+        } else {
+            size++;
+        }
+        ring[head] = change;
+        head = (head + 1) % ring.length;
+    }
+
+    public synchronized long getLastVersion() {
+        return lastVersion;
+    }
+
+    /**
+     * @return sinceVersion 이후의 변경분, 보관 범위를 벗어났으면 null (전체 스냅샷 필요)
+     */
+    public synchronized Delta since(long sinceVersion) {
+        if (sinceVersion < baseVersion || sinceVersion > lastVersion) {
+            return null;
+        }
+        LinkedHashMap<String, CarRepairInfoStore.Change> latestByPlate = new LinkedHashMap<>();
+        int oldest = (head - size + ring.length) % ring.length;
+        for (int i = 0; i < size; i++) {
+            CarRepairInfoStore.Change change = ring[(oldest + i) % ring.length];
+            if (change.getVersion() <= sinceVersion) continue;
+            // 다시 넣어 마지막 변경 순서를 유지
+            latestByPlate.remove(change.getPlate());
+            latestByPlate.put(change.getPlate(), change);
+        }
+        return new Delta(sinceVersion, lastVersion,
+                Collections.unmodifiableList(new ArrayList<>(latestByPlate.values())));
+    }
+}
@@ -0,0 +1,304 @@
+package com.skt.aionad.addon.bluehands;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * CarRepairInfo 전용 바이너리 코덱 (java.io.Serializable 대체)
+ * 리플렉션 없이 필드를 직접 기록하며 디스크 스냅샷, 기기 간 동기화, 일괄 내보내기에 사용
+ *
+ * 단일 항목: [포맷 버전 byte][항목]
+ * 목록:     [매직 "BHCR"][포맷 버전 byte][저장소 버전 varlong][개수 varint][항목...]
+ * 항목:     [상태 byte][요청시간 varint][예상완료시간 varint][차량번호 string][차종 string]
+ *           시간은 자정 기준 초 + 1 (0 = 시간 없음)
+ *           string은 (UTF-8 길이 + 1) varint + UTF-8 바이트 (0 = null)
+ */
+public final class CarRepairInfoCodec {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private static final byte[] LIST_MAGIC = {'B', 'H', 'C', 'R'};
+    private static final byte NO_STATUS = (byte) 0xFF;
+    private static final int MAX_STRING_BYTES = 16 * 1024;
+    private static final CarRepairInfo.RepairStatus[] STATUSES = CarRepairInfo.RepairStatus.values();
+
+    private CarRepairInfoCodec() {
+    }
+
+    /**
+     * 디코딩된 목록과 인코딩 당시의 저장소 버전
+     */
+    public static final class DecodedList {
+        private final long storeVersion;
+        private final List<CarRepairInfo> items;
+
+        DecodedList(long storeVersion, List<CarRepairInfo> items) {
+            this.storeVersion = storeVersion;
+            this.items = items;
+        }
+
+        public long getStoreVersion() {
+            return storeVersion;
+        }
+
+        public List<CarRepairInfo> getItems() {
+            return items;
+        }
+    }
+
+    // ---- 단일 항목 / 목록 ----
+
+    public static byte[] encode(CarRepairInfo info) {
+        Output out = new Output(48);
+        out.writeByte(FORMAT_VERSION);
+        writeEntry(out, info);
+        return out.toByteArray();
+    }
+
+    public static CarRepairInfo decode(byte[] bytes) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        try {
+            checkFormatVersion(in.get() & 0xFF);
+            return readEntry(in);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Corrupted CarRepairInfo record", e);
+        }
+    }
+
+    public static byte[] encodeList(long storeVersion, List<CarRepairInfo> items) {
+        Output out = new Output(16 + items.size() * 40);
+        writeList(out, storeVersion, items);
+        return out.toByteArray();
+    }
+
+    public static void writeList(Output out, long storeVersion, List<CarRepairInfo> items) {
+        out.writeBytes(LIST_MAGIC, 0, LIST_MAGIC.length);
+        out.writeByte(FORMAT_VERSION);
+        out.writeVarLong(storeVersion);
+        out.writeVarInt(items.size());
+        for (CarRepairInfo info : items) {
+            writeEntry(out, info);
+        }
+    }
+
+    public static DecodedList decodeList(ByteBuffer in) throws IOException {
+        try {
+            for (byte magic : LIST_MAGIC) {
+                if (in.get() != magic) throw new IOException("Invalid CarRepairInfo list header");
+            }
+            checkFormatVersion(in.get() & 0xFF);
+            long storeVersion = readVarLong(in);
+            int count = readVarInt(in);
+            if (count < 0 || count > in.remaining()) throw new IOException("Invalid item count: " + count);
+            List<CarRepairInfo> items = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                items.add(readEntry(in));
+            }
+            return new DecodedList(storeVersion, Collections.unmodifiableList(items));
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Corrupted CarRepairInfo list", e);
+        }
+    }
+
+    private static void checkFormatVersion(int formatVersion) throws IOException {
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported CarRepairInfo format version: " + formatVersion);
+        }
+    }
+
+    // ---- 항목 (다른 레코드에 포함할 때 사용) ----
+
+    public static void writeEntry(Output out, CarRepairInfo info) {
+        CarRepairInfo.RepairStatus status = info.getRepairStatus();
+        out.writeByte(status != null ? status.ordinal() : NO_STATUS);
+        out.writeVarInt(info.getRequestedSeconds() + 1);       // NO_TIME(-1) -> 0
+        out.writeVarInt(info.getEstimatedFinishSeconds() + 1);
+        out.writeString(info.getLicensePlateNumber());
+        out.writeString(info.getCarModel());
+    }
+
+    /**
+     * @throws BufferUnderflowException 데이터가 부족한 경우
+     * @throws IllegalArgumentException 값이 유효하지 않은 경우
+     */
+    public static CarRepairInfo readEntry(ByteBuffer in) {
+        int statusByte = in.get() & 0xFF;
+        if (statusByte != (NO_STATUS & 0xFF) && statusByte >= STATUSES.length) {
+            throw new IllegalArgumentException("Invalid repair status: " + statusByte);
+        }
+        CarRepairInfo info = new CarRepairInfo();
+        info.setRepairStatus(statusByte < STATUSES.length ? STATUSES[statusByte] : null);
+        info.setRequestedSeconds(readSecondsOfDay(in));
+        info.setEstimatedFinishSeconds(readSecondsOfDay(in));
+        info.setLicensePlateNumber(readString(in));
+        info.setCarModel(readString(in));
+        return info;
+    }
+
+    // ---- 기본 타입 읽기 ----
+
+    public static int readVarInt(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = in.get();
+            // 5번째 바이트는 하위 4비트만 유효 (32비트를 넘는 값은 손상된 입력)
+            if (shift == 28 && (b & 0xF0) != 0) break;
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    public static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            byte b = in.get();
+            // 10번째 바이트는 최하위 1비트만 유효
+            if (shift == 63 && (b & 0xFE) != 0) break;
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IllegalArgumentException("Malformed varlong");
+    }
+
+    /**
+     * writeEntry가 +1 하여 기록한 자정 기준 초 (NO_TIME 또는 0 ~ 86399)
+     */
+    private static int readSecondsOfDay(ByteBuffer in) {
+        int seconds = readVarInt(in) - 1;
+        if (seconds < CarRepairInfo.NO_TIME || seconds >= 24 * 3600) {
+            throw new IllegalArgumentException("Invalid time of day: " + seconds);
+        }
+        return seconds;
+    }
+
+    public static String readString(ByteBuffer in) {
+        int lengthPlusOne = readVarInt(in);
+        if (lengthPlusOne == 0) return null;
+        int length = lengthPlusOne - 1;
+        // 5바이트 varint는 음수로 읽힐 수 있으므로 하한도 검사
+        if (length < 0 || length > MAX_STRING_BYTES || length > in.remaining()) {
+            throw new IllegalArgumentException("Invalid string length: " + length);
+        }
+        String value;
+        if (in.hasArray()) {
+            value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+        } else {
+            byte[] utf8 = new byte[length];
+            in.get(utf8);
+            value = new String(utf8, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    /**
+     * 재사용 가능한 확장형 바이트 버퍼
+     */
+    public static final class Output {
+        private byte[] buffer;
+        private int size;
+
+        public Output(int initialCapacity) {
+            this.buffer = new byte[Math.max(16, initialCapacity)];
+        }
+
+        private void ensureCapacity(int additional) {
+            int required = size + additional;
+            if (required > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+            }
+        }
+
+        public void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[size++] = (byte) value;
+        }
+
+        public void writeBytes(byte[] bytes, int offset, int length) {
+            ensureCapacity(length);
+            System.arraycopy(bytes, offset, buffer, size, length);
+            size += length;
+        }
+
+        // big-endian 고정 4바이트
+        public void writeFixedInt(int value) {
+            ensureCapacity(4);
+            buffer[size++] = (byte) (value >>> 24);
+            buffer[size++] = (byte) (value >>> 16);
+            buffer[size++] = (byte) (value >>> 8);
+            buffer[size++] = (byte) value;
+        }
+
+        // 음수가 아닌 값만 기록 (음수는 5바이트로 기록됨)
+        public void writeVarInt(int value) {
+            ensureCapacity(5);
+            while ((value & ~0x7F) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        public void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        public void writeString(String value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(utf8.length + 1);
+            writeBytes(utf8, 0, utf8.length);
+        }
+
+        /**
+         * offset 위치의 고정 4바이트 값을 덮어씀 (길이/CRC를 나중에 채울 때)
+         */
+        public void setFixedInt(int offset, int value) {
+            buffer[offset] = (byte) (value >>> 24);
+            buffer[offset + 1] = (byte) (value >>> 16);
+            buffer[offset + 2] = (byte) (value >>> 8);
+            buffer[offset + 3] = (byte) value;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public void reset() {
+            size = 0;
+        }
+
+        // 내부 배열 (size까지만 유효)
+        public byte[] array() {
+            return buffer;
+        }
+
+        public byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        public ByteBuffer asByteBuffer() {
+            return ByteBuffer.wrap(buffer, 0, size);
+        }
+
+        public void writeTo(OutputStream out) throws IOException {
+            out.write(buffer, 0, size);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.skt.aionad.addon.bluehands;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.os.SystemClock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import timber.log.Timber;
+
+/**
+ * 완료된 수리 작업 자동 만료 (hashed timer wheel)
+ * - 저장소 변경 리스너로 COMPLETED 전환 시 만료 예약, 다른 상태로 바뀌거나 삭제되면 취소 (O(1))
+ * - 틱마다 현재 슬롯만 확인하므로 전체 목록을 주기적으로 훑지 않음
+ * - 만료 시점에 저장소의 항목이 예약 당시와 같은 객체일 때만 제거 (그 사이 변경된 경우 건너뜀)
+ * 완료 시각은 저장하지 않으므로 재시작 시 복원된 완료 작업은 시작 시점부터 다시 TTL 적용
+ */
+public class CarRepairInfoExpiry implements CarRepairInfoStore.ChangeListener {
+
+    private static final long TICK_MS = 10 * 1000L;
+    private static final int WHEEL_SIZE = 512; // 2의 거듭제곱 (약 85분/바퀴)
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    /**
+     * 만료 예약 항목 (슬롯 내 양방향 연결 리스트 노드)
+     */
+    private static final class Timeout {
+        final String plate;
+        CarRepairInfo info;
+        final long deadlineTick;
+        Timeout prev;
+        Timeout next;
+
+        Timeout(String plate, CarRepairInfo info, long deadlineTick) {
+            this.plate = plate;
+            this.info = info;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+
+    private final long ttlMs;
+    private final long ttlTicks;
+    // 슬롯별 연결 리스트 머리 (this 락 안에서만 접근)
+    private final Timeout[] wheel = new Timeout[WHEEL_SIZE];
+    private final HashMap<String, Timeout> timeoutByPlate = new HashMap<>();
+    private final AtomicLong evictedCount = new AtomicLong();
+
+    private CarRepairInfoStore store;
+    private HandlerThread expiryThread;
+    private Handler expiryHandler;
+    private long startTime;
+    // 마지막으로 처리한 틱 (this 락 안에서만 접근)
+    private long currentTick = 0;
+
+    private final Runnable tickRunnable = new Runnable() {
+        @Override
+        public void run() {
+            expireDue();
+            if (expiryHandler != null) {
+                expiryHandler.postDelayed(this, TICK_MS);
+            }
+        }
+    };
+
+    public CarRepairInfoExpiry(long ttlMinutes) {
+        this.ttlMs = ttlMinutes * 60 * 1000L;
+        this.ttlTicks = Math.max(1, (ttlMs + TICK_MS - 1) / TICK_MS);
+    }
+
+    /**
+     * 현재 완료 작업을 예약하고 변경 구독 및 틱 스레드 시작
+     */
+    public void start(CarRepairInfoStore store) {
+        this.store = store;
+        this.startTime = SystemClock.elapsedRealtime();
+
+        // 리스너 등록 후 스냅샷을 읽어야 그 사이의 변경을 놓치지 않음 (같은 항목은 예약이 한 번만 유지됨)
+        store.addChangeListener(this);
+        int scheduled = 0;
+        synchronized (this) {
+            for (CarRepairInfo info : store.getSnapshot().getItems()) {
+                String key = CarRepairInfoStore.normalizePlate(info.getLicensePlateNumber());
+                if (key != null && info.getRepairStatus() == CarRepairInfo.RepairStatus.COMPLETED
+                        && !timeoutByPlate.containsKey(key)) {
+                    schedule(key, info);
+                    scheduled++;
+                }
+            }
+        }
+
+        expiryThread = new HandlerThread("car-repair-expiry", Process.THREAD_PRIORITY_BACKGROUND);
+        expiryThread.start();
+        expiryHandler = new Handler(expiryThread.getLooper());
+        expiryHandler.postDelayed(tickRunnable, TICK_MS);
+        Timber.i("Completed job expiry started (ttl: %d min, scheduled: %d)", ttlMs / 60000, scheduled);
+    }
+
+    public void stop() {
+        if (store != null) {
+            store.removeChangeListener(this);
+        }
+        if (expiryHandler != null) {
+            expiryHandler.removeCallbacks(tickRunnable);
+            expiryHandler = null;
+        }
+        if (expiryThread != null) {
+            expiryThread.quitSafely();
+            expiryThread = null;
+        }
+        synchronized (this) {
+            timeoutByPlate.clear();
+            Arrays.fill(wheel, null);
+        }
+    }
+
+    /**
+     * 누적 만료 제거 건수
+     */
+    public long getEvictedCount() {
+        return evictedCount.get();
+    }
+
+    public synchronized int getScheduledCount() {
+        return timeoutByPlate.size();
+    }
+
+    // 저장소 쓰기 락 안에서 호출됨: 예약/취소만 수행 (O(1))
+    @Override
+    public synchronized void onChange(CarRepairInfoStore.Change change) {
+        switch (change.getType()) {
+            case ADD:
+            case UPDATE: {
+                CarRepairInfo info = change.getInfo();
+                Timeout existing = timeoutByPlate.get(change.getPlate());
+                if (info.getRepairStatus() == CarRepairInfo.RepairStatus.COMPLETED) {
+                    if (existing != null) {
+                        // 완료 상태 유지 중 수정: 최초 완료 시점 기준 만료 유지
+                        existing.info = info;
+                    } else {
+                        schedule(change.getPlate(), info);
+                    }
+                } else if (existing != null) {
+                    cancel(existing);
+                }
+                break;
+            }
+            case DELETE: {
+                Timeout existing = timeoutByPlate.get(change.getPlate());
+                if (existing != null) {
+                    cancel(existing);
+                }
+                break;
+            }
+            case CLEAR:
+                timeoutByPlate.clear();
+                Arrays.fill(wheel, null);
+                break;
+        }
+    }
+
+    // this 락 안에서만 호출
+    private void schedule(String plate, CarRepairInfo info) {
+        long nowTick = (SystemClock.elapsedRealtime() - startTime) / TICK_MS;
+        long deadlineTick = Math.max(nowTick, currentTick) + ttlTicks;
+        Timeout timeout = new Timeout(plate, info, deadlineTick);
+        int slot = (int) (deadlineTick & WHEEL_MASK);
+        timeout.next = wheel[slot];
+        if (wheel[slot] != null) {
+            wheel[slot].prev = timeout;
+        }
+        wheel[slot] = timeout;
+        timeoutByPlate.put(plate, timeout);
+    }
+
+    // this 락 안에서만 호출
+    private void cancel(Timeout timeout) {
+        unlink(timeout);
+        timeoutByPlate.remove(timeout.plate);
+    }
+
+    private void unlink(Timeout timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            int slot = (int) (timeout.deadlineTick & WHEEL_MASK);
+            if (wheel[slot] == timeout) {
+                wheel[slot] = timeout.next;
+            }
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+    }
+
+    /**
+     * 지나간 틱의 슬롯만 확인하여 만료 항목을 모은 뒤, 락을 놓고 저장소에서 제거
+     * (저장소 락 -> this 락 순서를 지키기 위해 제거는 this 락 밖에서 수행)
+     */
+    private void expireDue() {
+        long startNanos = System.nanoTime();
+        List<Timeout> expired = new ArrayList<>();
+        synchronized (this) {
+            long nowTick = (SystemClock.elapsedRealtime() - startTime) / TICK_MS;
+            // 한 바퀴 이상 밀렸으면 모든 슬롯을 한 번씩만 확인
+            long fromTick = Math.max(currentTick + 1, nowTick - WHEEL_MASK);
+            for (long tick = fromTick; tick <= nowTick; tick++) {
+                Timeout timeout = wheel[(int) (tick & WHEEL_MASK)];
+                while (timeout != null) {
+                    Timeout next = timeout.next;
+                    if (timeout.deadlineTick <= nowTick) {
+                        unlink(timeout);
+                        timeoutByPlate.remove(timeout.plate);
+                        expired.add(timeout);
+                    }
+                    timeout = next;
+                }
+            }
+            currentTick = Math.max(currentTick, nowTick);
+        }
+
+        if (expired.isEmpty()) return;
+
+        int evicted = 0;
+        for (Timeout timeout : expired) {
+            if (store.remove(timeout.plate, timeout.info)) {
+                evicted++;
+                Timber.d("Expired completed repair job: %s", timeout.plate);
+            }
+        }
+        long total = evictedCount.addAndGet(evicted);
+        double durationMs = (System.nanoTime() - startNanos) / 1_000_000.0;
+        Timber.i("Completed job expiry: evicted %d of %d due (total evicted: %d) in %.2f ms",
+                evicted, expired.size(), total, durationMs);
+    }
+}
@@ -0,0 +1,417 @@
+package com.skt.aionad.addon.bluehands;
+
+import android.os.Process;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import timber.log.Timber;
+
+/**
+ * 수리 작업 저장소 영속화 (스냅샷 파일 + 추가 전용 저널 파일)
+ * - 저장소 변경은 큐에 넣기만 하고, 백그라운드 쓰기 스레드가 모아서 한 번에 기록 후 동기화 (group commit)
+ *   메인 루퍼와 Ktor 요청 처리 경로에서는 디스크 I/O가 발생하지 않음
+ * - 저널 레코드가 일정 개수를 넘거나 일정 시간이 지나면 스냅샷으로 압축하고 저널을 비움
+ * - 시작 시 스냅샷을 읽고 저널을 memory-mapped 방식으로 재생하여 저장소를 복원
+ * - 항목 인코딩은 CarRepairInfoCodec 사용
+ */
+public class CarRepairInfoJournal implements CarRepairInfoStore.ChangeListener {
+
+    private static final String SNAPSHOT_FILE_NAME = "car-repair.snapshot";
+    private static final String JOURNAL_FILE_NAME = "car-repair.journal";
+    // 저널 파일 헤더 ("BHJ" + 저널 포맷 버전), 헤더가 다르면 저널을 버리고 새로 시작
+    private static final byte[] JOURNAL_HEADER = {'B', 'H', 'J', 2};
+
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final int MAX_RECORD_LENGTH = 64 * 1024;
+    private static final int COMPACTION_RECORD_THRESHOLD = 1000;
+    private static final long COMPACTION_INTERVAL_MS = 10 * 60 * 1000L; // 10분
+    private static final long WRITER_IDLE_POLL_MS = 60 * 1000L;
+
+    // 저널 레코드 종류
+    private static final byte OP_PUT = 1;
+    private static final byte OP_DELETE = 2;
+    private static final byte OP_CLEAR = 3;
+
+    // 쓰기 스레드 종료 신호
+    private static final CarRepairInfoStore.Change SHUTDOWN =
+            new CarRepairInfoStore.Change(-1, CarRepairInfoStore.ChangeType.CLEAR, null, null);
+
+    private final File snapshotFile;
+    private final File journalFile;
+    private final LinkedBlockingQueue<CarRepairInfoStore.Change> pendingChanges = new LinkedBlockingQueue<>();
+
+    private CarRepairInfoStore store;
+    private Thread writerThread;
+    private FileChannel journalChannel;
+    private volatile boolean closed = false;
+
+    // 복원 시 확인된 저널의 유효 길이 (이후의 깨진 꼬리는 잘라냄)
+    private long validJournalLength = 0;
+    private int replayedRecordCount = 0;
+    // 쓰기 스레드 전용
+    private int recordsSinceCompaction = 0;
+
+    public CarRepairInfoJournal(File directory) {
+        if (!directory.exists() && !directory.mkdirs()) {
+            Timber.e("Failed to create journal directory: %s", directory.getAbsolutePath());
+        }
+        this.snapshotFile = new File(directory, SNAPSHOT_FILE_NAME);
+        this.journalFile = new File(directory, JOURNAL_FILE_NAME);
+    }
+
+    /**
+     * 스냅샷 + 저널 재생으로 저장소 복원 (start 전에 1회 호출)
+     */
+    public void restore(CarRepairInfoStore store) {
+        long startNanos = System.nanoTime();
+        LinkedHashMap<String, CarRepairInfo> entries = new LinkedHashMap<>();
+
+        long snapshotVersion = 0;
+        try {
+            snapshotVersion = readSnapshot(entries);
+        } catch (IOException e) {
+            Timber.e(e, "Failed to read repair job snapshot, starting from journal only");
+            entries.clear();
+            snapshotVersion = 0;
+        }
+
+        long restoredVersion = snapshotVersion;
+        try {
+            restoredVersion = Math.max(restoredVersion, replayJournal(entries, snapshotVersion));
+        } catch (IOException e) {
+            Timber.e(e, "Failed to replay repair job journal");
+        }
+
+        store.restore(new ArrayList<>(entries.values()), restoredVersion);
+
+        double durationMs = (System.nanoTime() - startNanos) / 1_000_000.0;
+        Timber.i("Restored %d repair jobs (version: %d, snapshot version: %d, journal records: %d) in %.2f ms",
+                entries.size(), restoredVersion, snapshotVersion, replayedRecordCount, durationMs);
+    }
+
+    /**
+     * 저장소 변경 구독 및 백그라운드 쓰기 스레드 시작
+     */
+    public void start(CarRepairInfoStore store) {
+        this.store = store;
+        try {
+            RandomAccessFile raf = new RandomAccessFile(journalFile, "rw");
+            journalChannel = raf.getChannel();
+            // 복원 시 확인된 유효 길이 이후의 깨진 꼬리를 제거하고 그 뒤에 이어서 기록
+            journalChannel.truncate(validJournalLength);
+            journalChannel.position(validJournalLength);
+            if (validJournalLength == 0) {
+                writeJournalHeader();
+            }
+        } catch (IOException e) {
+            Timber.e(e, "Failed to open repair job journal: %s", journalFile.getAbsolutePath());
+            return;
+        }
+
+        writerThread = new Thread(this::runWriter, "car-repair-journal");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        store.addChangeListener(this);
+    }
+
+    /**
+     * 남은 변경을 기록하고 스냅샷으로 압축한 뒤 종료
+     */
+    public void close() {
+        if (closed) return;
+        closed = true;
+        if (store != null) {
+            store.removeChangeListener(this);
+        }
+        if (writerThread != null) {
+            pendingChanges.offer(SHUTDOWN);
+            try {
+                writerThread.join(2000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // 저장소 쓰기 락 안에서 호출됨: 큐에 넣기만 함
+    @Override
+    public void onChange(CarRepairInfoStore.Change change) {
+        if (!closed) {
+            pendingChanges.offer(change);
+        }
+    }
+
+    private void runWriter() {
+        Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+
+        List<CarRepairInfoStore.Change> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        CarRepairInfoCodec.Output out = new CarRepairInfoCodec.Output(4096);
+        CRC32 crc = new CRC32();
+        long lastCompactionTime = System.currentTimeMillis();
+        boolean shutdown = false;
+
+        while (!shutdown) {
+            CarRepairInfoStore.Change first;
+            try {
+                first = pendingChanges.poll(WRITER_IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                break;
+            }
+
+            if (first != null) {
+                batch.add(first);
+                pendingChanges.drainTo(batch, MAX_BATCH_SIZE - 1);
+
+                // 모인 변경을 한 번의 write + force로 기록
+                out.reset();
+                int recordCount = 0;
+                for (CarRepairInfoStore.Change change : batch) {
+                    if (change == SHUTDOWN) {
+                        shutdown = true;
+                        continue;
+                    }
+                    writeRecord(out, crc, change);
+                    recordCount++;
+                }
+                batch.clear();
+
+                if (recordCount > 0) {
+                    try {
+                        ByteBuffer buffer = out.asByteBuffer();
+                        while (buffer.hasRemaining()) {
+                            journalChannel.write(buffer);
+                        }
+                        journalChannel.force(false);
+                        recordsSinceCompaction += recordCount;
+                        Timber.v("Journal group commit: %d records, %d bytes", recordCount, out.size());
+                    } catch (IOException e) {
+                        Timber.e(e, "Failed to append %d records to repair job journal", recordCount);
+                    }
+                }
+            }
+
+            long now = System.currentTimeMillis();
+            boolean compactionDue = recordsSinceCompaction >= COMPACTION_RECORD_THRESHOLD
+                    || (recordsSinceCompaction > 0 && now - lastCompactionTime >= COMPACTION_INTERVAL_MS)
+                    || (shutdown && recordsSinceCompaction > 0);
+            if (compactionDue) {
+                compact();
+                lastCompactionTime = now;
+            }
+        }
+
+        try {
+            journalChannel.close();
+        } catch (IOException e) {
+            Timber.w(e, "Failed to close repair job journal");
+        }
+        Timber.i("Repair job journal writer stopped");
+    }
+
+    /**
+     * 현재 저장소 스냅샷을 파일로 저장하고 저널을 비움
+     * 스냅샷은 큐에서 꺼내 기록한 모든 레코드보다 같거나 새로운 버전이므로
+     * 아직 큐에 남은 이전 버전 레코드는 재생 시 버전 비교로 건너뜀
+     */
+    private void compact() {
+        long startNanos = System.nanoTime();
+        CarRepairInfoStore.Snapshot snapshot = store.getSnapshot();
+        try {
+            writeSnapshot(snapshot);
+            journalChannel.truncate(0);
+            journalChannel.position(0);
+            writeJournalHeader();
+            journalChannel.force(false);
+            recordsSinceCompaction = 0;
+            double durationMs = (System.nanoTime() - startNanos) / 1_000_000.0;
+            Timber.i("Repair job journal compacted into snapshot (version: %d, items: %d) in %.2f ms",
+                    snapshot.getVersion(), snapshot.size(), durationMs);
+        } catch (IOException e) {
+            Timber.e(e, "Failed to compact repair job journal");
+        }
+    }
+
+    private void writeJournalHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.wrap(JOURNAL_HEADER);
+        while (header.hasRemaining()) {
+            journalChannel.write(header);
+        }
+    }
+
+    // [CarRepairInfoCodec 목록][CRC32]
+    private void writeSnapshot(CarRepairInfoStore.Snapshot snapshot) throws IOException {
+        CarRepairInfoCodec.Output out = new CarRepairInfoCodec.Output(32 + snapshot.size() * 40);
+        CarRepairInfoCodec.writeList(out, snapshot.getVersion(), snapshot.getItems());
+        CRC32 crc = new CRC32();
+        crc.update(out.array(), 0, out.size());
+        out.writeFixedInt((int) crc.getValue());
+
+        // 임시 파일에 기록 후 동기화하고 rename으로 원자적 교체
+        File tempFile = new File(snapshotFile.getParentFile(), SNAPSHOT_FILE_NAME + ".tmp");
+        try (FileOutputStream fos = new FileOutputStream(tempFile)) {
+            out.writeTo(fos);
+            fos.flush();
+            fos.getFD().sync();
+        }
+        if (!tempFile.renameTo(snapshotFile)) {
+            throw new IOException("Failed to rename " + tempFile.getName() + " to " + snapshotFile.getName());
+        }
+    }
+
+    /**
+     * @return 스냅샷 버전 (스냅샷이 없으면 0)
+     */
+    private long readSnapshot(Map<String, CarRepairInfo> entries) throws IOException {
+        if (!snapshotFile.exists() || snapshotFile.length() == 0) return 0;
+
+        try (RandomAccessFile raf = new RandomAccessFile(snapshotFile, "r");
+             FileChannel channel = raf.getChannel()) {
+            long size = channel.size();
+            if (size < 8) throw new IOException("Snapshot too short: " + size);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            // 마지막 4바이트는 앞 내용의 CRC
+            ByteBuffer body = buffer.duplicate();
+            body.limit((int) size - 4);
+            CRC32 crc = new CRC32();
+            crc.update(body.duplicate());
+            if ((int) crc.getValue() != buffer.getInt((int) size - 4)) {
+                throw new IOException("Snapshot checksum mismatch");
+            }
+
+            CarRepairInfoCodec.DecodedList decoded = CarRepairInfoCodec.decodeList(body);
+            for (CarRepairInfo info : decoded.getItems()) {
+                String key = CarRepairInfoStore.normalizePlate(info.getLicensePlateNumber());
+                if (key != null) {
+                    entries.put(key, info);
+                }
+            }
+            return decoded.getStoreVersion();
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupted snapshot", e);
+        }
+    }
+
+    /**
+     * 스냅샷 이후 버전의 저널 레코드를 순서대로 적용
+     * 길이/CRC가 맞지 않는 레코드를 만나면 (기록 도중 종료된 꼬리) 그 앞까지만 적용
+     * @return 마지막으로 적용된 레코드 버전 (없으면 0)
+     */
+    private long replayJournal(Map<String, CarRepairInfo> entries, long snapshotVersion) throws IOException {
+        validJournalLength = 0;
+        replayedRecordCount = 0;
+        if (!journalFile.exists() || journalFile.length() == 0) return 0;
+
+        long lastVersion = 0;
+        try (RandomAccessFile raf = new RandomAccessFile(journalFile, "r");
+             FileChannel channel = raf.getChannel()) {
+            long size = channel.size();
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            for (byte expected : JOURNAL_HEADER) {
+                if (!buffer.hasRemaining() || buffer.get() != expected) {
+                    Timber.w("Repair job journal header mismatch; discarding %d bytes", size);
+                    return 0;
+                }
+            }
+            validJournalLength = buffer.position();
+            CRC32 crc = new CRC32();
+
+            while (buffer.remaining() >= 8) {
+                int length = buffer.getInt();
+                int checksum = buffer.getInt();
+                if (length <= 0 || length > MAX_RECORD_LENGTH || length > buffer.remaining()) break;
+
+                ByteBuffer payload = buffer.slice();
+                payload.limit(length);
+                crc.reset();
+                crc.update(payload.duplicate());
+                if ((int) crc.getValue() != checksum) break;
+                buffer.position(buffer.position() + length);
+
+                try {
+                    long version = applyRecord(payload, entries, snapshotVersion);
+                    lastVersion = Math.max(lastVersion, version);
+                } catch (RuntimeException e) {
+                    Timber.w(e, "Skipping unreadable journal record at offset %d", validJournalLength);
+                }
+                validJournalLength = buffer.position();
+                replayedRecordCount++;
+            }
+
+            if (validJournalLength < size) {
+                Timber.w("Repair job journal has %d trailing bytes that could not be read; truncating",
+                        size - validJournalLength);
+            }
+        }
+        return lastVersion;
+    }
+
+    private static long applyRecord(ByteBuffer payload, Map<String, CarRepairInfo> entries, long snapshotVersion) {
+        byte op = payload.get();
+        long version = CarRepairInfoCodec.readVarLong(payload);
+        String plate = CarRepairInfoCodec.readString(payload);
+        CarRepairInfo info = op == OP_PUT ? CarRepairInfoCodec.readEntry(payload) : null;
+
+        // 스냅샷에 이미 반영된 레코드는 건너뜀
+        if (version <= snapshotVersion) return version;
+
+        switch (op) {
+            case OP_PUT:
+                entries.put(plate, info);
+                break;
+            case OP_DELETE:
+                entries.remove(plate);
+                break;
+            case OP_CLEAR:
+                entries.clear();
+                break;
+            default:
+                throw new IllegalStateException("Unknown journal op: " + op);
+        }
+        return version;
+    }
+
+    // [길이 int][CRC32 int][op byte][버전 varlong][차량번호 string][항목 (PUT인 경우)]
+    private static void writeRecord(CarRepairInfoCodec.Output out, CRC32 crc, CarRepairInfoStore.Change change) {
+        int headerOffset = out.size();
+        out.writeFixedInt(0);
+        out.writeFixedInt(0);
+        int payloadOffset = out.size();
+        switch (change.getType()) {
+            case ADD:
+            case UPDATE:
+                out.writeByte(OP_PUT);
+                break;
+            case DELETE:
+                out.writeByte(OP_DELETE);
+                break;
+            default:
+                out.writeByte(OP_CLEAR);
+                break;
+        }
+        out.writeVarLong(change.getVersion());
+        out.writeString(change.getPlate());
+        if (change.getInfo() != null) {
+            CarRepairInfoCodec.writeEntry(out, change.getInfo());
+        }
+
+        int payloadLength = out.size() - payloadOffset;
+        crc.reset();
+        crc.update(out.array(), payloadOffset, payloadLength);
+        out.setFixedInt(headerOffset, payloadLength);
+        out.setFixedInt(headerOffset + 4, (int) crc.getValue());
+    }
+}
@@ -0,0 +1,786 @@
+package com.skt.aionad.addon.bluehands;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.UnaryOperator;
+
+/**
+ * 차량 수리 작업 저장소
+ * 정규화된 차량번호 -> CarRepairInfo 인덱스를 유지하여 조회, 중복 체크, 수정을 O(1)로 처리
+ * 표시 순서(완료 작업 우선, 예상 완료시간, 차량번호) 인덱스를 변경 시점에 함께 갱신하여
+ * 페이지 표시는 정렬 없이 범위 읽기로 처리
+ * 조회는 락 없이 수행하고, 변경은 저장소 내부 락으로만 직렬화 (AddOnBluehands 모니터와 무관)
+ * 변경될 때마다 버전을 올리고 표시 순서로 정렬된 불변 스냅샷을 게시하므로
+ * 화면/모니터/REST 조회는 volatile 읽기 한 번으로 같은 버전의 일관된 목록을 얻음
+ * 저장소에 등록된 CarRepairInfo는 수정하지 않고 새 객체로 교체해야 함
+ * 변경 내역은 버전 순서대로 ChangeListener에 전달됨 (영속화 등)
+ * 상태별 작업 수는 인덱스 변경 시 함께 증감하여 스냅샷에 담으므로 요약 조회는 O(1)
+ * 일괄 변경(applyBatch)은 모든 항목이 성공할 때만 버전 하나, 스냅샷 게시 한 번으로 반영되며 각 변경은 같은 버전으로 알림
+ */
+public class CarRepairInfoStore {
+
+    // 표시 순서 버킷: 완료된 작업이 맨 앞
+    private static final int BUCKET_COMPLETED = 0;
+    private static final int BUCKET_ACTIVE = 1;
+    // 완료시간이 없거나 잘못된 작업은 맨 뒤로
+    private static final int NO_FINISH_TIME = Integer.MAX_VALUE;
+    private static final CarRepairInfo.RepairStatus[] STATUSES = CarRepairInfo.RepairStatus.values();
+
+    // 정규화된 차량번호 -> 수리 정보
+    private final ConcurrentHashMap<String, CarRepairInfo> carRepairInfoByPlate = new ConcurrentHashMap<>();
+    // (상태 버킷, 예상 완료시간, 차량번호) -> 수리 정보
+    private final ConcurrentSkipListMap<OrderKey, CarRepairInfo> carRepairInfoByFinishTime = new ConcurrentSkipListMap<>();
+    // 정규화된 차량번호 -> 등록 시점의 표시 순서 키 (writeLock 안에서만 접근)
+    private final HashMap<String, OrderKey> orderKeyByPlate = new HashMap<>();
+    // 두 인덱스를 함께 변경하기 위한 쓰기 전용 락
+    private final Object writeLock = new Object();
+    // 변경마다 증가하는 저장소 버전 (writeLock 안에서만 변경)
+    private long version = 0;
+    // 상태(ordinal)별 작업 수 (writeLock 안에서만 변경)
+    private final int[] countByStatus = new int[STATUSES.length];
+    // 마지막으로 게시된 불변 스냅샷
+    private volatile Snapshot snapshot = new Snapshot(0, Collections.<CarRepairInfo>emptyList(),
+            new StatusCounts(new int[STATUSES.length]));
+    // 마지막 스냅샷(정렬 인덱스 복사) 생성 소요 시간
+    private volatile long lastSnapshotBuildNanos = 0;
+    // 변경 알림 대상
+    private final CopyOnWriteArrayList<ChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+
+    public enum ChangeType {
+        ADD,
+        UPDATE,
+        DELETE,
+        CLEAR
+    }
+
+    /**
+     * 한 번의 변경 내역
+     * plate는 정규화된 차량번호, info는 변경 후 정보 (DELETE/CLEAR는 null)
+     * licensePlateNumber는 표시용 차량번호 (DELETE는 삭제된 정보의 차량번호, CLEAR는 null)
+     */
+    public static final class Change {
+        private final long version;
+        private final ChangeType type;
+        private final String plate;
+        private final String licensePlateNumber;
+        private final CarRepairInfo info;
+
+        public Change(long version, ChangeType type, String plate, CarRepairInfo info) {
+            this(version, type, plate, info != null ? info.getLicensePlateNumber() : plate, info);
+        }
+
+        public Change(long version, ChangeType type, String plate, String licensePlateNumber, CarRepairInfo info) {
+            this.version = version;
+            this.type = type;
+            this.plate = plate;
+            this.licensePlateNumber = licensePlateNumber;
+            this.info = info;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public ChangeType getType() {
+            return type;
+        }
+
+        public String getPlate() {
+            return plate;
+        }
+
+        /**
+         * 클라이언트에 보낼 차량번호 (ADD/UPDATE/DELETE 모두 등록 시 표기와 같음)
+         */
+        public String getLicensePlateNumber() {
+            return licensePlateNumber;
+        }
+
+        public CarRepairInfo getInfo() {
+            return info;
+        }
+    }
+
+    /**
+     * 변경 알림 리스너
+     * 저장소 쓰기 락 안에서 버전 순서대로 호출되므로 블로킹 작업 없이 빠르게 반환해야 함
+     */
+    public interface ChangeListener {
+        void onChange(Change change);
+    }
+
+    /**
+     * 일괄 변경 항목 하나
+     */
+    public static final class BatchOperation {
+        public enum Type {
+            ADD,
+            UPDATE,
+            DELETE
+        }
+
+        private final Type type;
+        private final String plate;
+        private final CarRepairInfo info;
+
+        private BatchOperation(Type type, String plate, CarRepairInfo info) {
+            this.type = type;
+            this.plate = plate;
+            this.info = info;
+        }
+
+        // 같은 차량번호가 없을 때만 추가
+        public static BatchOperation add(CarRepairInfo info) {
+            return new BatchOperation(Type.ADD, info != null ? info.getLicensePlateNumber() : null, info);
+        }
+
+        // 존재하는 경우에만 교체 (기존 차량번호 표기 유지)
+        public static BatchOperation update(String licensePlateNumber, CarRepairInfo info) {
+            return new BatchOperation(Type.UPDATE, licensePlateNumber, info);
+        }
+
+        public static BatchOperation delete(String licensePlateNumber) {
+            return new BatchOperation(Type.DELETE, licensePlateNumber, null);
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        public String getPlate() {
+            return plate;
+        }
+
+        public CarRepairInfo getInfo() {
+            return info;
+        }
+    }
+
+    public enum BatchItemStatus {
+        APPLIED,
+        CONFLICT,   // ADD: 이미 존재
+        NOT_FOUND,  // UPDATE/DELETE: 대상 없음
+        INVALID,    // 차량번호/정보가 유효하지 않음
+        NOT_APPLIED // 다른 항목이 실패하여 일괄 변경 전체를 적용하지 않음
+    }
+
+    /**
+     * 일괄 변경 결과 (항목 순서대로의 처리 결과와 반영된 버전)
+     * 하나라도 실패하면 아무것도 반영되지 않음 (실패 항목 외에는 NOT_APPLIED, appliedCount 0)
+     */
+    public static final class BatchResult {
+        private final long version;
+        private final List<BatchItemStatus> statuses;
+        private final int appliedCount;
+
+        BatchResult(long version, List<BatchItemStatus> statuses, int appliedCount) {
+            this.version = version;
+            this.statuses = statuses;
+            this.appliedCount = appliedCount;
+        }
+
+        // 반영 후 저장소 버전 (반영된 항목이 없으면 기존 버전)
+        public long getVersion() {
+            return version;
+        }
+
+        public List<BatchItemStatus> getStatuses() {
+            return statuses;
+        }
+
+        public int getAppliedCount() {
+            return appliedCount;
+        }
+    }
+
+    /**
+     * 특정 버전의 상태별 작업 수 (불변)
+     */
+    public static final class StatusCounts {
+        private final int[] counts;
+
+        StatusCounts(int[] counts) {
+            this.counts = counts;
+        }
+
+        public int get(CarRepairInfo.RepairStatus status) {
+            return status != null ? counts[status.ordinal()] : 0;
+        }
+
+        public int getCompleted() {
+            return counts[CarRepairInfo.RepairStatus.COMPLETED.ordinal()];
+        }
+
+        public int getFinalInspection() {
+            return counts[CarRepairInfo.RepairStatus.FINAL_INSPECTION.ordinal()];
+        }
+
+        public int getInProgress() {
+            return counts[CarRepairInfo.RepairStatus.IN_PROGRESS.ordinal()];
+        }
+
+        public int getTotal() {
+            int total = 0;
+            for (int count : counts) {
+                total += count;
+            }
+            return total;
+        }
+    }
+
+    /**
+     * 특정 버전의 저장소 내용 (표시 순서로 정렬된 불변 목록)
+     */
+    public static final class Snapshot {
+        private final long version;
+        private final List<CarRepairInfo> items;
+        private final StatusCounts statusCounts;
+
+        Snapshot(long version, List<CarRepairInfo> items, StatusCounts statusCounts) {
+            this.version = version;
+            this.items = items;
+            this.statusCounts = statusCounts;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        // 표시 순서로 정렬된 수정 불가 목록
+        public List<CarRepairInfo> getItems() {
+            return items;
+        }
+
+        public int size() {
+            return items.size();
+        }
+
+        public boolean isEmpty() {
+            return items.isEmpty();
+        }
+
+        // 이 버전의 상태별 작업 수
+        public StatusCounts getStatusCounts() {
+            return statusCounts;
+        }
+
+        /**
+         * 표시 순서 기준 [fromIndex, fromIndex + count) 범위
+         */
+        public List<CarRepairInfo> range(int fromIndex, int count) {
+            int from = Math.max(0, Math.min(fromIndex, items.size()));
+            int to = Math.max(from, Math.min(from + count, items.size()));
+            return items.subList(from, to);
+        }
+
+        /**
+         * cursor 다음 항목부터 표시 순서로 최대 limit개 (status가 null이면 모든 상태)
+         * 시작 위치는 이진 탐색으로 찾고, 완료 작업은 표시 순서 맨 앞에 모여 있으므로 해당 구간만 읽음
+         * @param cursor 이전 페이지의 nextCursor (null이면 처음부터)
+         * @throws IllegalArgumentException cursor가 유효하지 않은 경우
+         */
+        public Page page(String cursor, int limit, CarRepairInfo.RepairStatus status) {
+            int from = cursor != null ? firstIndexAfter(decodeCursor(cursor)) : 0;
+            if (status != null && status != CarRepairInfo.RepairStatus.COMPLETED) {
+                from = Math.max(from, firstIndexAfter(ACTIVE_BUCKET_START));
+            }
+
+            List<CarRepairInfo> pageItems = new ArrayList<>(Math.min(Math.max(limit, 0), 64));
+            CarRepairInfo last = null;
+            int index = from;
+            for (; index < items.size() && pageItems.size() < limit; index++) {
+                CarRepairInfo info = items.get(index);
+                if (status == CarRepairInfo.RepairStatus.COMPLETED
+                        && info.getRepairStatus() != CarRepairInfo.RepairStatus.COMPLETED) {
+                    index = items.size();
+                    break;
+                }
+                if (status != null && info.getRepairStatus() != status) continue;
+                pageItems.add(info);
+                last = info;
+            }
+            // 한도만큼 채웠고 뒤에 항목이 남아 있으면 다음 페이지 커서 제공 (다음 페이지가 비어 있을 수도 있음)
+            boolean hasMore = index < items.size()
+                    && (status != CarRepairInfo.RepairStatus.COMPLETED
+                        || items.get(index).getRepairStatus() == CarRepairInfo.RepairStatus.COMPLETED);
+            String nextCursor = last != null && pageItems.size() >= limit && hasMore
+                    ? encodeCursor(orderKeyOf(normalizePlate(last.getLicensePlateNumber()), last))
+                    : null;
+            return new Page(version, Collections.unmodifiableList(pageItems), nextCursor);
+        }
+
+        // key보다 뒤에 오는 첫 항목의 위치
+        private int firstIndexAfter(OrderKey key) {
+            int low = 0;
+            int high = items.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                CarRepairInfo info = items.get(mid);
+                if (orderKeyOf(normalizePlate(info.getLicensePlateNumber()), info).compareTo(key) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * 표시 순서 기준 페이지 (nextCursor가 null이면 마지막 페이지)
+     */
+    public static final class Page {
+        private final long version;
+        private final List<CarRepairInfo> items;
+        private final String nextCursor;
+
+        Page(long version, List<CarRepairInfo> items, String nextCursor) {
+            this.version = version;
+            this.items = items;
+            this.nextCursor = nextCursor;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public List<CarRepairInfo> getItems() {
+            return items;
+        }
+
+        public String getNextCursor() {
+            return nextCursor;
+        }
+    }
+
+    // 표시 순서 키를 외부에 노출하지 않는 불투명 커서 ("버킷:완료시간:차량번호"의 URL-safe Base64)
+    private static String encodeCursor(OrderKey key) {
+        String raw = key.bucket + ":" + key.finishSeconds + ":" + key.plate;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static OrderKey decodeCursor(String cursor) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] parts = raw.split(":", 3);
+        if (parts.length != 3 || parts[2].isEmpty()) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        try {
+            return new OrderKey(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), parts[2]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    /**
+     * 표시 순서 키
+     * 완료된 작업은 차량번호 순, 나머지는 예상 완료시간 순 (동일 시간은 차량번호 순)
+     */
+    private static final class OrderKey implements Comparable<OrderKey> {
+        final int bucket;
+        final int finishSeconds;
+        final String plate;
+
+        OrderKey(int bucket, int finishSeconds, String plate) {
+            this.bucket = bucket;
+            this.finishSeconds = finishSeconds;
+            this.plate = plate;
+        }
+
+        @Override
+        public int compareTo(OrderKey o) {
+            if (bucket != o.bucket) return Integer.compare(bucket, o.bucket);
+            if (finishSeconds != o.finishSeconds) return Integer.compare(finishSeconds, o.finishSeconds);
+            return plate.compareTo(o.plate);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof OrderKey)) return false;
+            OrderKey that = (OrderKey) o;
+            return bucket == that.bucket && finishSeconds == that.finishSeconds && plate.equals(that.plate);
+        }
+
+        @Override
+        public int hashCode() {
+            return (bucket * 31 + finishSeconds) * 31 + plate.hashCode();
+        }
+    }
+
+    // 진행 중 작업 구간의 시작 (모든 진행 중 작업 키보다 앞)
+    private static final OrderKey ACTIVE_BUCKET_START = new OrderKey(BUCKET_ACTIVE, Integer.MIN_VALUE, "");
+
+    private static OrderKey orderKeyOf(String plateKey, CarRepairInfo info) {
+        if (info.getRepairStatus() == CarRepairInfo.RepairStatus.COMPLETED) {
+            return new OrderKey(BUCKET_COMPLETED, 0, plateKey);
+        }
+        int finishSeconds = info.getEstimatedFinishSeconds();
+        return new OrderKey(BUCKET_ACTIVE, finishSeconds != CarRepairInfo.NO_TIME ? finishSeconds : NO_FINISH_TIME, plateKey);
+    }
+
+    // writeLock 안에서만 호출: 버전을 올리고 정렬 인덱스를 그대로 복사하여 새 스냅샷 게시
+    private void publish(ChangeType type, String plateKey, CarRepairInfo info) {
+        publish(type, plateKey, info != null ? info.getLicensePlateNumber() : null, info);
+    }
+
+    // writeLock 안에서만 호출
+    private void publish(ChangeType type, String plateKey, String licensePlateNumber, CarRepairInfo info) {
+        version++;
+        snapshot = newSnapshot();
+        if (!changeListeners.isEmpty()) {
+            Change change = new Change(version, type, plateKey, licensePlateNumber, info);
+            for (ChangeListener listener : changeListeners) {
+                listener.onChange(change);
+            }
+        }
+    }
+
+    // writeLock 안에서만 호출
+    private Snapshot newSnapshot() {
+        long startNanos = System.nanoTime();
+        Snapshot built = new Snapshot(version,
+                Collections.unmodifiableList(new ArrayList<>(carRepairInfoByFinishTime.values())),
+                new StatusCounts(countByStatus.clone()));
+        lastSnapshotBuildNanos = System.nanoTime() - startNanos;
+        return built;
+    }
+
+    // writeLock 안에서만 호출
+    private void index(String plateKey, CarRepairInfo info) {
+        OrderKey orderKey = orderKeyOf(plateKey, info);
+        orderKeyByPlate.put(plateKey, orderKey);
+        carRepairInfoByFinishTime.put(orderKey, info);
+        countStatus(info, 1);
+    }
+
+    // writeLock 안에서만 호출
+    private void unindex(String plateKey) {
+        OrderKey orderKey = orderKeyByPlate.remove(plateKey);
+        if (orderKey != null) {
+            countStatus(carRepairInfoByFinishTime.remove(orderKey), -1);
+        }
+    }
+
+    // writeLock 안에서만 호출
+    private void clearIndexes() {
+        carRepairInfoByPlate.clear();
+        carRepairInfoByFinishTime.clear();
+        orderKeyByPlate.clear();
+        Arrays.fill(countByStatus, 0);
+    }
+
+    private void countStatus(CarRepairInfo info, int delta) {
+        if (info != null && info.getRepairStatus() != null) {
+            countByStatus[info.getRepairStatus().ordinal()] += delta;
+        }
+    }
+
+    /**
+     * 인덱스 키로 사용할 차량번호 정규화 (공백 제거)
+     * 유효하지 않으면 null 반환
+     */
+    public static String normalizePlate(String licensePlateNumber) {
+        if (licensePlateNumber == null) return null;
+        StringBuilder sb = null;
+        int length = licensePlateNumber.length();
+        for (int i = 0; i < length; i++) {
+            char c = licensePlateNumber.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (sb == null) {
+                    sb = new StringBuilder(length);
+                    sb.append(licensePlateNumber, 0, i);
+                }
+            } else if (sb != null) {
+                sb.append(c);
+            }
+        }
+        String normalized = sb != null ? sb.toString() : licensePlateNumber;
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    /**
+     * 차량번호로 조회 (락 없음)
+     */
+    public CarRepairInfo get(String licensePlateNumber) {
+        String key = normalizePlate(licensePlateNumber);
+        return key != null ? carRepairInfoByPlate.get(key) : null;
+    }
+
+    public boolean contains(String licensePlateNumber) {
+        return get(licensePlateNumber) != null;
+    }
+
+    /**
+     * 같은 차량번호가 없을 때만 추가
+     * @return 추가되었으면 true, 이미 존재하거나 차량번호가 유효하지 않으면 false
+     */
+    public boolean add(CarRepairInfo carRepairInfo) {
+        String key = carRepairInfo != null ? normalizePlate(carRepairInfo.getLicensePlateNumber()) : null;
+        if (key == null) return false;
+        synchronized (writeLock) {
+            if (carRepairInfoByPlate.containsKey(key)) return false;
+            carRepairInfoByPlate.put(key, carRepairInfo);
+            index(key, carRepairInfo);
+            publish(ChangeType.ADD, key, carRepairInfo);
+            return true;
+        }
+    }
+
+    /**
+     * 추가 또는 교체
+     * @return 교체된 기존 정보 (없었으면 null)
+     */
+    public CarRepairInfo put(CarRepairInfo carRepairInfo) {
+        String key = carRepairInfo != null ? normalizePlate(carRepairInfo.getLicensePlateNumber()) : null;
+        if (key == null) return null;
+        synchronized (writeLock) {
+            CarRepairInfo previous = carRepairInfoByPlate.put(key, carRepairInfo);
+            unindex(key);
+            index(key, carRepairInfo);
+            publish(previous == null ? ChangeType.ADD : ChangeType.UPDATE, key, carRepairInfo);
+            return previous;
+        }
+    }
+
+    /**
+     * 존재하는 경우에만 updater 결과로 원자적으로 교체
+     * @return 교체된 새 정보 (대상이 없으면 null)
+     */
+    public CarRepairInfo update(String licensePlateNumber, UnaryOperator<CarRepairInfo> updater) {
+        String key = normalizePlate(licensePlateNumber);
+        if (key == null) return null;
+        synchronized (writeLock) {
+            CarRepairInfo existing = carRepairInfoByPlate.get(key);
+            if (existing == null) return null;
+            CarRepairInfo updated = updater.apply(existing);
+            if (updated == null) return null;
+            carRepairInfoByPlate.put(key, updated);
+            unindex(key);
+            index(key, updated);
+            publish(ChangeType.UPDATE, key, updated);
+            return updated;
+        }
+    }
+
+    /**
+     * @return 제거된 정보 (없었으면 null)
+     */
+    public CarRepairInfo remove(String licensePlateNumber) {
+        String key = normalizePlate(licensePlateNumber);
+        if (key == null) return null;
+        synchronized (writeLock) {
+            CarRepairInfo removed = carRepairInfoByPlate.remove(key);
+            if (removed != null) {
+                unindex(key);
+                publish(ChangeType.DELETE, key, removed.getLicensePlateNumber(), null);
+            }
+            return removed;
+        }
+    }
+
+    /**
+     * 현재 등록된 정보가 expected와 같은 객체일 때만 제거 (만료 처리 등 조건부 삭제)
+     * @return 제거되었으면 true
+     */
+    public boolean remove(String licensePlateNumber, CarRepairInfo expected) {
+        String key = normalizePlate(licensePlateNumber);
+        if (key == null || expected == null) return false;
+        synchronized (writeLock) {
+            if (carRepairInfoByPlate.get(key) != expected) return false;
+            carRepairInfoByPlate.remove(key);
+            unindex(key);
+            publish(ChangeType.DELETE, key, expected.getLicensePlateNumber(), null);
+            return true;
+        }
+    }
+
+    /**
+     * 여러 변경을 순서대로 적용하고 버전 하나, 스냅샷 게시 한 번으로 반영
+     * 다른 조회/변경에는 일괄 변경 전 또는 후 상태만 보임 (중간 상태 없음)
+     * 먼저 모든 항목을 앞 항목의 결과를 반영한 상태로 검사하고, 하나라도 실패하면 아무것도 적용하지 않음
+     * (null 항목은 INVALID) - 전달된 CarRepairInfo는 수정하지 않음
+     */
+    public BatchResult applyBatch(List<BatchOperation> operations) {
+        synchronized (writeLock) {
+            List<BatchItemStatus> statuses = validateBatch(operations);
+            if (statuses != null) {
+                return new BatchResult(version, Collections.unmodifiableList(statuses), 0);
+            }
+
+            long nextVersion = version + 1;
+            List<Change> changes = new ArrayList<>(operations.size());
+            for (BatchOperation operation : operations) {
+                String key = normalizePlate(operation.getPlate());
+                switch (operation.getType()) {
+                    case ADD: {
+                        CarRepairInfo info = operation.getInfo();
+                        carRepairInfoByPlate.put(key, info);
+                        index(key, info);
+                        changes.add(new Change(nextVersion, ChangeType.ADD, key, info));
+                        break;
+                    }
+                    case UPDATE: {
+                        // 기존 차량번호 표기를 유지한 복사본으로 교체
+                        CarRepairInfo existing = carRepairInfoByPlate.get(key);
+                        CarRepairInfo info = copyWithPlate(operation.getInfo(), existing.getLicensePlateNumber());
+                        carRepairInfoByPlate.put(key, info);
+                        unindex(key);
+                        index(key, info);
+                        changes.add(new Change(nextVersion, ChangeType.UPDATE, key, info));
+                        break;
+                    }
+                    case DELETE: {
+                        CarRepairInfo removed = carRepairInfoByPlate.remove(key);
+                        unindex(key);
+                        changes.add(new Change(nextVersion, ChangeType.DELETE, key, removed.getLicensePlateNumber(), null));
+                        break;
+                    }
+                }
+            }
+
+            version = nextVersion;
+            snapshot = newSnapshot();
+            for (Change change : changes) {
+                for (ChangeListener listener : changeListeners) {
+                    listener.onChange(change);
+                }
+            }
+            return new BatchResult(version,
+                    Collections.unmodifiableList(Collections.nCopies(operations.size(), BatchItemStatus.APPLIED)),
+                    changes.size());
+        }
+    }
+
+    // writeLock 안에서만 호출: 모두 적용 가능하면 null, 아니면 항목별 결과 (성공 예정 항목은 NOT_APPLIED)
+    private List<BatchItemStatus> validateBatch(List<BatchOperation> operations) {
+        List<BatchItemStatus> statuses = new ArrayList<>(operations.size());
+        // 앞 항목까지 적용했을 때의 존재 여부 (같은 차량번호를 여러 번 다루는 경우)
+        HashMap<String, Boolean> presentByPlate = new HashMap<>();
+        boolean failed = false;
+        for (BatchOperation operation : operations) {
+            String key = operation != null ? normalizePlate(operation.getPlate()) : null;
+            BatchItemStatus status;
+            if (key == null || (operation.getType() != BatchOperation.Type.DELETE && operation.getInfo() == null)) {
+                status = BatchItemStatus.INVALID;
+            } else {
+                Boolean overlaid = presentByPlate.get(key);
+                boolean present = overlaid != null ? overlaid : carRepairInfoByPlate.containsKey(key);
+                if (operation.getType() == BatchOperation.Type.ADD) {
+                    status = present ? BatchItemStatus.CONFLICT : BatchItemStatus.APPLIED;
+                } else {
+                    status = present ? BatchItemStatus.APPLIED : BatchItemStatus.NOT_FOUND;
+                }
+                if (status == BatchItemStatus.APPLIED) {
+                    presentByPlate.put(key, operation.getType() != BatchOperation.Type.DELETE);
+                }
+            }
+            failed |= status != BatchItemStatus.APPLIED;
+            statuses.add(status);
+        }
+        if (!failed) {
+            return null;
+        }
+        for (int i = 0; i < statuses.size(); i++) {
+            if (statuses.get(i) == BatchItemStatus.APPLIED) {
+                statuses.set(i, BatchItemStatus.NOT_APPLIED);
+            }
+        }
+        return statuses;
+    }
+
+    private static CarRepairInfo copyWithPlate(CarRepairInfo info, String licensePlateNumber) {
+        CarRepairInfo copy = new CarRepairInfo();
+        copy.setRepairStatus(info.getRepairStatus());
+        copy.setLicensePlateNumber(licensePlateNumber);
+        copy.setCarModel(info.getCarModel());
+        copy.setRequestedSeconds(info.getRequestedSeconds());
+        copy.setEstimatedFinishSeconds(info.getEstimatedFinishSeconds());
+        return copy;
+    }
+
+    public void clear() {
+        synchronized (writeLock) {
+            clearIndexes();
+            publish(ChangeType.CLEAR, null, null);
+        }
+    }
+
+    /**
+     * 영속화된 내용으로 저장소를 복원 (시작 시 1회)
+     * 리스너에 알리지 않으며 저장된 버전부터 이어서 증가
+     */
+    public void restore(List<CarRepairInfo> items, long restoredVersion) {
+        synchronized (writeLock) {
+            clearIndexes();
+            for (CarRepairInfo info : items) {
+                String key = normalizePlate(info.getLicensePlateNumber());
+                if (key == null) continue;
+                carRepairInfoByPlate.put(key, info);
+                unindex(key);
+                index(key, info);
+            }
+            version = Math.max(version, restoredVersion);
+            snapshot = newSnapshot();
+        }
+    }
+
+    public void addChangeListener(ChangeListener listener) {
+        changeListeners.addIfAbsent(listener);
+    }
+
+    public void removeChangeListener(ChangeListener listener) {
+        changeListeners.remove(listener);
+    }
+
+    public int size() {
+        return snapshot.size();
+    }
+
+    public long getVersion() {
+        return snapshot.getVersion();
+    }
+
+    /**
+     * 마지막 스냅샷 생성(표시 순서 목록 복사) 소요 시간 (나노초)
+     */
+    public long getLastSnapshotBuildNanos() {
+        return lastSnapshotBuildNanos;
+    }
+
+    /**
+     * 현재 버전의 불변 스냅샷 (volatile 읽기 한 번, 복사 없음)
+     */
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 현재 버전의 상태별 작업 수 (복사/순회 없음)
+     */
+    public StatusCounts getStatusCounts() {
+        return snapshot.getStatusCounts();
+    }
+
+    /**
+     * 현재 버전의 표시 순서 목록 (수정 불가, 복사 없음)
+     */
+    public List<CarRepairInfo> orderedValues() {
+        return snapshot.getItems();
+    }
+
+    /**
+     * 현재 버전의 표시 순서 기준 [fromIndex, fromIndex + count) 범위
+     */
+    public List<CarRepairInfo> orderedRange(int fromIndex, int count) {
+        return snapshot.range(fromIndex, count);
+    }
+}
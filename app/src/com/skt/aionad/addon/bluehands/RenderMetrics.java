@@ -0,0 +1,113 @@
+package com.skt.aionad.addon.bluehands;
+
+import com.skt.aionad.addon.utils.LatencyHistogram;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 현황판 화면 갱신 주기 측정값
+ * - 예약 간격 대비 실제 간격 편차, 테이블 갱신 왕복 시간, 페이지 한 번의 전체 갱신 시간
+ * - 페이지에서 측정한 render() 시작부터 변경이 그려진 프레임까지의 시간
+ * - 건너뛴 갱신, WebView 완전 재설정, JavaScript 메모리 재설정, 페이지 응답 시간 초과 횟수
+ * 메인 스레드에서 기록하고 REST/메트릭 스레드에서 읽음 (히스토그램과 카운터 모두 스레드 안전)
+ */
+public class RenderMetrics {
+
+    private final LatencyHistogram scheduleDrift = new LatencyHistogram();
+    private final LatencyHistogram fillJsRoundTrip = new LatencyHistogram();
+    private final LatencyHistogram pageCycle = new LatencyHistogram();
+    private final LatencyHistogram framePresent = new LatencyHistogram();
+
+    private final AtomicLong skippedUpdates = new AtomicLong();
+    private final AtomicLong webViewResets = new AtomicLong();
+    private final AtomicLong jsMemoryResets = new AtomicLong();
+    private final AtomicLong ackTimeouts = new AtomicLong();
+
+    public void recordScheduleDriftMs(long driftMs) {
+        scheduleDrift.recordMillis(Math.abs(driftMs));
+    }
+
+    public void recordFillJsNanos(long nanos) {
+        fillJsRoundTrip.recordNanos(nanos);
+    }
+
+    public void recordPageCycleNanos(long nanos) {
+        pageCycle.recordNanos(nanos);
+    }
+
+    public void recordFramePresentMs(double millis) {
+        framePresent.recordMillis(millis);
+    }
+
+    public void incrementSkippedUpdates() {
+        skippedUpdates.incrementAndGet();
+    }
+
+    public void incrementWebViewResets() {
+        webViewResets.incrementAndGet();
+    }
+
+    public void incrementJsMemoryResets() {
+        jsMemoryResets.incrementAndGet();
+    }
+
+    public void incrementAckTimeouts() {
+        ackTimeouts.incrementAndGet();
+    }
+
+    public LatencyHistogram getScheduleDrift() {
+        return scheduleDrift;
+    }
+
+    public LatencyHistogram getFillJsRoundTrip() {
+        return fillJsRoundTrip;
+    }
+
+    public LatencyHistogram getPageCycle() {
+        return pageCycle;
+    }
+
+    public LatencyHistogram getFramePresent() {
+        return framePresent;
+    }
+
+    public long getSkippedUpdates() {
+        return skippedUpdates.get();
+    }
+
+    public long getWebViewResets() {
+        return webViewResets.get();
+    }
+
+    public long getJsMemoryResets() {
+        return jsMemoryResets.get();
+    }
+
+    public long getAckTimeouts() {
+        return ackTimeouts.get();
+    }
+
+    /**
+     * 주기 요약 로그 한 줄 (ms 단위 p50/p95/p99, 최근 1~2분 기준)
+     */
+    public String toSummaryString() {
+        StringBuilder sb = new StringBuilder(256);
+        sb.append("Render metrics - cycles: ").append(pageCycle.getCount());
+        appendHistogram(sb, "drift", scheduleDrift);
+        appendHistogram(sb, "fillJs", fillJsRoundTrip);
+        appendHistogram(sb, "frame", framePresent);
+        appendHistogram(sb, "cycle", pageCycle);
+        sb.append(", skipped: ").append(skippedUpdates.get())
+                .append(", webViewResets: ").append(webViewResets.get())
+                .append(", jsMemoryResets: ").append(jsMemoryResets.get())
+                .append(", ackTimeouts: ").append(ackTimeouts.get());
+        return sb.toString();
+    }
+
+    private static void appendHistogram(StringBuilder sb, String name, LatencyHistogram histogram) {
+        sb.append(", ").append(name).append(" p50/p95/p99: ")
+                .append(histogram.getQuantileMicros(0.5) / 1000).append('/')
+                .append(histogram.getQuantileMicros(0.95) / 1000).append('/')
+                .append(histogram.getQuantileMicros(0.99) / 1000).append(" ms");
+    }
+}
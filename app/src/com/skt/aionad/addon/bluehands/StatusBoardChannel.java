@@ -0,0 +1,197 @@
+package com.skt.aionad.addon.bluehands;
+
+import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+import android.webkit.WebMessage;
+import android.webkit.WebMessagePort;
+import android.webkit.WebView;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import timber.log.Timber;
+
+/**
+ * 현황판 페이지와의 WebMessagePort 채널 (메인 스레드에서만 사용)
+ * - 페이지 로드가 끝나면 connect()로 포트 쌍을 만들어 한쪽을 페이지에 넘기고, 이후 페이지 입력은 메시지로 전송
+ * - 페이지는 입력을 반영한 뒤 requestAnimationFrame 두 번으로 변경이 그려진 프레임을 확인하고 측정값과 함께 응답
+ * - 응답이 ACK_TIMEOUT_MS 안에 오지 않으면 (WebView가 가려져 프레임이 멈춘 경우 등) 시간 초과(null)로 완료 처리
+ *
+ * 메시지 형식
+ * - 앱 → 페이지: {"seq":1,"type":"render","data":{...}} (type: TYPE_RENDER 또는 TYPE_BOARD)
+ * - 페이지 → 앱: {"seq":1,"result":"update_completed","renderMs":0.4,"frameMs":16.9}
+ */
+public class StatusBoardChannel {
+
+    // 바뀐 셀 갱신 (StatusBoardModel.buildRenderPayload)
+    public static final String TYPE_RENDER = "render";
+    // 정렬된 전체 목록 전달, 페이지 넘김은 페이지가 직접 수행 (StatusBoardModel.buildBoardPayload)
+    public static final String TYPE_BOARD = "board";
+
+    private static final String PORT_MESSAGE = "status_board_port";
+    private static final long ACK_TIMEOUT_MS = 1000;
+
+    /**
+     * 페이지 응답 (render 결과와 페이지에서 측정한 시간)
+     */
+    public static final class Ack {
+        private final String result;
+        private final double renderMs;
+        private final double frameMs;
+        private final long roundTripNanos;
+
+        Ack(String result, double renderMs, double frameMs, long roundTripNanos) {
+            this.result = result;
+            this.renderMs = renderMs;
+            this.frameMs = frameMs;
+            this.roundTripNanos = roundTripNanos;
+        }
+
+        public String getResult() {
+            return result;
+        }
+
+        public boolean isCompleted() {
+            return "update_completed".equals(result);
+        }
+
+        /**
+         * render() 실행 시간 (performance.now 기준)
+         */
+        public double getRenderMs() {
+            return renderMs;
+        }
+
+        /**
+         * render() 시작부터 변경이 그려진 다음 프레임까지 (performance.now 기준)
+         */
+        public double getFrameMs() {
+            return frameMs;
+        }
+
+        /**
+         * 전송부터 응답 수신까지 (앱 기준)
+         */
+        public long getRoundTripNanos() {
+            return roundTripNanos;
+        }
+    }
+
+    public interface AckListener {
+        /**
+         * @param ack 페이지 응답, 시간 초과나 채널 재연결로 응답을 받지 못했으면 null
+         */
+        void onAck(Ack ack);
+    }
+
+    private final WebView webView;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final Runnable timeoutRunnable = this::onTimeout;
+
+    private WebMessagePort port;
+    private long sequence;
+    // 응답 대기 중인 전송 (없으면 pendingListener == null)
+    private long pendingSequence;
+    private long pendingStartNanos;
+    private AckListener pendingListener;
+
+    public StatusBoardChannel(WebView webView) {
+        this.webView = webView;
+    }
+
+    /**
+     * 페이지 로드 완료 시 호출 (이전 채널은 닫고 새로 연결, 응답 대기 중인 전송은 null로 완료)
+     */
+    public void connect() {
+        close();
+        try {
+            WebMessagePort[] ports = webView.createWebMessageChannel();
+            ports[0].setWebMessageCallback(new WebMessagePort.WebMessageCallback() {
+                @Override
+                public void onMessage(WebMessagePort source, WebMessage message) {
+                    onAckMessage(message.getData());
+                }
+            }, mainHandler);
+            // file:// 페이지는 origin이 없으므로 "*"로 전달
+            webView.postWebMessage(new WebMessage(PORT_MESSAGE, new WebMessagePort[]{ports[1]}), Uri.parse("*"));
+            port = ports[0];
+            Timber.i("Status board message channel connected");
+        } catch (Exception e) {
+            Timber.e(e, "Failed to create status board message channel");
+        }
+    }
+
+    public boolean isConnected() {
+        return port != null;
+    }
+
+    /**
+     * 페이지 입력 전송 (이전 전송이 아직 응답 전이면 그 전송은 null로 완료)
+     * @param type TYPE_RENDER 또는 TYPE_BOARD
+     * @param payload type에 맞는 JSON 문자열
+     * @return 채널이 연결되지 않았으면 false (listener 호출 없음)
+     */
+    public boolean send(String type, String payload, AckListener listener) {
+        if (port == null) {
+            return false;
+        }
+        completePending(null);
+        long seq = ++sequence;
+        pendingSequence = seq;
+        pendingListener = listener;
+        pendingStartNanos = System.nanoTime();
+        port.postMessage(new WebMessage(
+                "{\"seq\":" + seq + ",\"type\":\"" + type + "\",\"data\":" + payload + "}"));
+        mainHandler.postDelayed(timeoutRunnable, ACK_TIMEOUT_MS);
+        return true;
+    }
+
+    /**
+     * 채널 종료 (응답 대기 중인 전송은 null로 완료)
+     */
+    public void close() {
+        completePending(null);
+        if (port != null) {
+            port.close();
+            port = null;
+        }
+    }
+
+    private void onAckMessage(String data) {
+        if (pendingListener == null || data == null) {
+            return;
+        }
+        try {
+            JSONObject json = new JSONObject(data);
+            if (json.optLong("seq", -1) != pendingSequence) {
+                // 시간 초과 후 늦게 도착한 이전 응답
+                return;
+            }
+            completePending(new Ack(
+                    json.optString("result", ""),
+                    json.optDouble("renderMs", 0),
+                    json.optDouble("frameMs", 0),
+                    System.nanoTime() - pendingStartNanos));
+        } catch (JSONException e) {
+            Timber.w("Invalid status board ack: %s", data);
+        }
+    }
+
+    private void onTimeout() {
+        if (pendingListener != null) {
+            Timber.w("Status board ack timed out after %d ms (seq: %d)", ACK_TIMEOUT_MS, pendingSequence);
+            completePending(null);
+        }
+    }
+
+    private void completePending(Ack ack) {
+        AckListener listener = pendingListener;
+        if (listener == null) {
+            return;
+        }
+        pendingListener = null;
+        mainHandler.removeCallbacks(timeoutRunnable);
+        listener.onAck(ack);
+    }
+}
@@ -0,0 +1,104 @@
+package com.skt.aionad.addon.bluehands;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 현황판 한 페이지의 표시 내용 (불변)
+ * 저장소 스냅샷 한 버전에서 페이지 범위를 잘라 셀 내용(차량번호 마스킹, 상태 문구)까지 만들어 둔 것으로,
+ * 백그라운드 스레드에서 만들고 메인 스레드는 StatusBoardModel로 바뀐 셀만 골라 WebView에 전달함
+ */
+public final class StatusBoardFrame {
+
+    private final CarRepairInfoStore.Snapshot snapshot;
+    private final int requestedPageIndex;
+    private final int pageIndex;
+    private final List<CarRepairInfo> items;
+    private final StatusBoardModel.Cell[] cells;
+
+    private StatusBoardFrame(CarRepairInfoStore.Snapshot snapshot, int requestedPageIndex, int pageIndex,
+                             List<CarRepairInfo> items, StatusBoardModel.Cell[] cells) {
+        this.snapshot = snapshot;
+        this.requestedPageIndex = requestedPageIndex;
+        this.pageIndex = pageIndex;
+        this.items = items;
+        this.cells = cells;
+    }
+
+    /**
+     * snapshot의 pageIndex 페이지 (StatusBoardModel.COLUMNS개씩, 범위를 벗어나면 첫 페이지)
+     * @param itemCellBuilder 항목 하나의 열 셀 (ROWS개) - 어느 스레드에서 호출되어도 안전해야 함
+     */
+    public static StatusBoardFrame build(CarRepairInfoStore.Snapshot snapshot, int pageIndex,
+                                         Function<CarRepairInfo, StatusBoardModel.Cell[]> itemCellBuilder) {
+        int totalCount = snapshot.size();
+        // 사이클 도중 데이터가 줄어 페이지가 범위를 벗어나면 처음부터 다시 표시
+        int page = pageIndex > 0 && pageIndex * StatusBoardModel.COLUMNS >= totalCount ? 0 : pageIndex;
+        // 스냅샷 목록이 수정 불가이므로 범위 뷰를 그대로 보관
+        List<CarRepairInfo> items = snapshot.range(page * StatusBoardModel.COLUMNS, StatusBoardModel.COLUMNS);
+
+        StatusBoardModel.Cell[] cells = StatusBoardModel.newEmptyCells();
+        for (int column = 0; column < items.size(); column++) {
+            StatusBoardModel.Cell[] itemCells = itemCellBuilder.apply(items.get(column));
+            for (int row = 0; row < StatusBoardModel.ROWS; row++) {
+                cells[StatusBoardModel.indexOf(row, column)] = itemCells[row];
+            }
+        }
+        return new StatusBoardFrame(snapshot, pageIndex, page, items, cells);
+    }
+
+    /**
+     * 만들 때 사용한 저장소 스냅샷 (불변)
+     */
+    public CarRepairInfoStore.Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public long getVersion() {
+        return snapshot.getVersion();
+    }
+
+    /**
+     * 요청한 페이지 번호 (범위를 벗어나 첫 페이지로 바뀐 경우 getPageIndex()와 다름)
+     */
+    public int getRequestedPageIndex() {
+        return requestedPageIndex;
+    }
+
+    public int getPageIndex() {
+        return pageIndex;
+    }
+
+    public int getTotalCount() {
+        return snapshot.size();
+    }
+
+    public int getPageCount() {
+        return (snapshot.size() + StatusBoardModel.COLUMNS - 1) / StatusBoardModel.COLUMNS;
+    }
+
+    /**
+     * 이 페이지 다음에 표시할 페이지 번호 (마지막 페이지 다음은 0)
+     */
+    public int getNextPageIndex() {
+        return pageIndex + 1 < getPageCount() ? pageIndex + 1 : 0;
+    }
+
+    /**
+     * 이 페이지에 표시되는 항목 (수정 불가)
+     */
+    public List<CarRepairInfo> getItems() {
+        return items;
+    }
+
+    public boolean isVisible() {
+        return !items.isEmpty();
+    }
+
+    /**
+     * ROWS * COLUMNS 셀 (StatusBoardModel.indexOf 순서, 복사본)
+     */
+    public StatusBoardModel.Cell[] getCells() {
+        return cells.clone();
+    }
+}
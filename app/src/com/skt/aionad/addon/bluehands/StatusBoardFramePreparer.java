@@ -0,0 +1,112 @@
+package com.skt.aionad.addon.bluehands;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import timber.log.Timber;
+
+/**
+ * 다음 페이지 프레임을 백그라운드 스레드에서 미리 준비
+ * - 현재 페이지가 표시되는 동안 prepare(N+1)로 다음 페이지의 범위 선택과 셀 내용 구성을 끝내 둠
+ * - 준비한 뒤 저장소가 바뀌면 같은 페이지를 다시 준비 (변경이 몰려도 한 번만 예약)
+ * - 메인 스레드는 take()로 받은 프레임을 WebView에 전달만 하고, 준비되지 않았거나 이전 버전이면 직접 만듦
+ */
+public class StatusBoardFramePreparer implements CarRepairInfoStore.ChangeListener {
+
+    private final CarRepairInfoStore store;
+    private final Function<CarRepairInfo, StatusBoardModel.Cell[]> itemCellBuilder;
+    private final HandlerThread frameThread;
+    private final Handler frameHandler;
+    private final AtomicBoolean preparePosted = new AtomicBoolean(false);
+    private final Runnable prepareRunnable = this::prepareNow;
+
+    // 준비할 페이지 (-1: 요청 없음)
+    private volatile int requestedPageIndex = -1;
+    private volatile StatusBoardFrame prepared;
+
+    private final AtomicLong preparedHits = new AtomicLong();
+    private final AtomicLong preparedMisses = new AtomicLong();
+
+    /**
+     * @param itemCellBuilder 항목 하나의 열 셀 (백그라운드 스레드에서 호출됨)
+     */
+    public StatusBoardFramePreparer(CarRepairInfoStore store,
+                                    Function<CarRepairInfo, StatusBoardModel.Cell[]> itemCellBuilder) {
+        this.store = store;
+        this.itemCellBuilder = itemCellBuilder;
+        this.frameThread = new HandlerThread("board-frame", Process.THREAD_PRIORITY_BACKGROUND);
+        frameThread.start();
+        this.frameHandler = new Handler(frameThread.getLooper());
+        store.addChangeListener(this);
+    }
+
+    /**
+     * pageIndex 페이지를 백그라운드에서 준비하도록 예약
+     */
+    public void prepare(int pageIndex) {
+        requestedPageIndex = pageIndex;
+        schedule();
+    }
+
+    /**
+     * pageIndex 페이지의 현재 저장소 버전 프레임 (미리 준비된 것이 맞지 않으면 호출 스레드에서 직접 생성)
+     */
+    public StatusBoardFrame take(int pageIndex) {
+        StatusBoardFrame frame = prepared;
+        if (frame != null && frame.getRequestedPageIndex() == pageIndex && frame.getVersion() == store.getVersion()) {
+            preparedHits.incrementAndGet();
+            return frame;
+        }
+        preparedMisses.incrementAndGet();
+        Timber.d("Prepared status board frame not ready for page %d, building on caller thread", pageIndex);
+        return StatusBoardFrame.build(store.getSnapshot(), pageIndex, itemCellBuilder);
+    }
+
+    /**
+     * 저장소 쓰기 스레드에서 writeLock 안에 호출됨 - 예약만 하고 바로 반환
+     */
+    @Override
+    public void onChange(CarRepairInfoStore.Change change) {
+        if (requestedPageIndex >= 0) {
+            schedule();
+        }
+    }
+
+    public long getPreparedHits() {
+        return preparedHits.get();
+    }
+
+    public long getPreparedMisses() {
+        return preparedMisses.get();
+    }
+
+    public void quit() {
+        store.removeChangeListener(this);
+        frameThread.quitSafely();
+    }
+
+    private void schedule() {
+        if (preparePosted.compareAndSet(false, true)) {
+            frameHandler.post(prepareRunnable);
+        }
+    }
+
+    private void prepareNow() {
+        // 플래그를 먼저 내려 준비 중에 들어온 요청/변경이 다시 예약되도록 함
+        preparePosted.set(false);
+        int pageIndex = requestedPageIndex;
+        if (pageIndex < 0) {
+            return;
+        }
+        try {
+            prepared = StatusBoardFrame.build(store.getSnapshot(), pageIndex, itemCellBuilder);
+        } catch (Exception e) {
+            Timber.e(e, "Failed to prepare status board frame for page %d", pageIndex);
+        }
+    }
+}
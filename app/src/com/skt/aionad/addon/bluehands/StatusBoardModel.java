@@ -0,0 +1,177 @@
+package com.skt.aionad.addon.bluehands;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.List;
+
+/**
+ * 현황판 WebView에 현재 표시되어 있는 셀 내용 (메인 스레드에서만 사용)
+ * 다음 페이지의 셀과 비교하여 바뀐 셀만 status_board.html의 render(page)에 넘길 JSON으로 만듦
+ * 페이지가 다시 로드되면 invalidate()로 표시 내용을 알 수 없음 상태로 되돌려 전체를 다시 보냄
+ */
+public class StatusBoardModel {
+
+    public static final int COLUMNS = 4;
+    // 0: 상태 헤더, 1: 차량번호/차종, 2: 상태 정보
+    public static final int ROWS = 3;
+    public static final int ROW_HEADER = 0;
+    public static final int ROW_PLATE = 1;
+    public static final int ROW_STATUS = 2;
+
+    /**
+     * 셀 하나의 표시 내용 (불변)
+     * time이 있으면 페이지에서 text 뒤에 강조 표시(span.time)로 붙임
+     */
+    public static final class Cell {
+        public static final Cell EMPTY_HEADER = new Cell("", "h empty");
+        public static final Cell EMPTY = new Cell("", "empty");
+
+        private final String text;
+        private final String className;
+        private final String time;
+
+        public Cell(String text, String className) {
+            this(text, className, null);
+        }
+
+        public Cell(String text, String className, String time) {
+            this.text = text != null ? text : "";
+            this.className = className != null ? className : "";
+            this.time = time;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public String getClassName() {
+            return className;
+        }
+
+        public String getTime() {
+            return time;
+        }
+
+        boolean sameAs(Cell other) {
+            return other != null && text.equals(other.text) && className.equals(other.className)
+                    && (time == null ? other.time == null : time.equals(other.time));
+        }
+
+        /**
+         * [row, column, text, className(, time)]
+         */
+        JSONArray toJson(int row, int column) {
+            return appendJson(new JSONArray().put(row).put(column));
+        }
+
+        /**
+         * [text, className(, time)]
+         */
+        JSONArray toJson() {
+            return appendJson(new JSONArray());
+        }
+
+        private JSONArray appendJson(JSONArray json) {
+            json.put(text).put(className);
+            if (time != null) {
+                json.put(time);
+            }
+            return json;
+        }
+    }
+
+    // 현재 표시 중인 셀 (null이면 알 수 없음)
+    private final Cell[] shown = new Cell[ROWS * COLUMNS];
+    // 테이블 표시 여부 (null이면 알 수 없음)
+    private Boolean shownVisible = null;
+
+    public static int indexOf(int row, int column) {
+        return row * COLUMNS + column;
+    }
+
+    /**
+     * 빈 셀로 채운 새 셀 배열 (ROWS * COLUMNS)
+     */
+    public static Cell[] newEmptyCells() {
+        Cell[] cells = new Cell[ROWS * COLUMNS];
+        for (int column = 0; column < COLUMNS; column++) {
+            cells[indexOf(ROW_HEADER, column)] = Cell.EMPTY_HEADER;
+            cells[indexOf(ROW_PLATE, column)] = Cell.EMPTY;
+            cells[indexOf(ROW_STATUS, column)] = Cell.EMPTY;
+        }
+        return cells;
+    }
+
+    /**
+     * 페이지 재로드 등으로 화면 내용을 알 수 없게 되었을 때 호출
+     */
+    public void invalidate() {
+        for (int i = 0; i < shown.length; i++) {
+            shown[i] = null;
+        }
+        shownVisible = null;
+    }
+
+    /**
+     * 바뀐 셀만 담은 render(page) 입력을 만들고 표시 상태로 기록
+     * 형식: {"cells":[[row,column,text,className(,time)],...],"visible":true} (visible은 바뀐 경우만)
+     * @return 바뀐 것이 없으면 null (WebView 호출 불필요)
+     */
+    public String buildRenderPayload(Cell[] next, boolean visible) {
+        JSONArray cells = new JSONArray();
+        for (int row = 0; row < ROWS; row++) {
+            for (int column = 0; column < COLUMNS; column++) {
+                int index = indexOf(row, column);
+                Cell cell = next[index];
+                if (cell.sameAs(shown[index])) continue;
+                cells.put(cell.toJson(row, column));
+                shown[index] = cell;
+            }
+        }
+        boolean visibilityChanged = shownVisible == null || shownVisible != visible;
+        shownVisible = visible;
+        if (cells.length() == 0 && !visibilityChanged) {
+            return null;
+        }
+        try {
+            JSONObject page = new JSONObject().put("cells", cells);
+            if (visibilityChanged) {
+                page.put("visible", visible);
+            }
+            return page.toString();
+        } catch (JSONException e) {
+            // 키가 고정 문자열이므로 발생하지 않음
+            invalidate();
+            return null;
+        }
+    }
+
+    /**
+     * 페이지가 직접 페이지를 넘기는 모드의 전체 목록 입력 (StatusBoardChannel.TYPE_BOARD)
+     * 형식: {"version":12,"interval":2000,"items":[[[text,className(,time)],[...],[...]],...]}
+     * @param items 표시 순서대로 항목별 ROWS개 셀 (상태 헤더, 차량번호/차종, 상태 정보)
+     * @param intervalMs 페이지 넘김 간격
+     */
+    public static String buildBoardPayload(long version, long intervalMs, List<Cell[]> items) {
+        JSONArray itemsJson = new JSONArray();
+        for (Cell[] itemCells : items) {
+            JSONArray itemJson = new JSONArray();
+            for (Cell cell : itemCells) {
+                itemJson.put(cell.toJson());
+            }
+            itemsJson.put(itemJson);
+        }
+        try {
+            return new JSONObject()
+                    .put("version", version)
+                    .put("interval", intervalMs)
+                    .put("items", itemsJson)
+                    .toString();
+        } catch (JSONException e) {
+            // 키가 고정 문자열이므로 발생하지 않음
+            return null;
+        }
+    }
+}
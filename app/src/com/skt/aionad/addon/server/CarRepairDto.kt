@@ -1,7 +1,9 @@
 package com.skt.aionad.addon.server
 
 import kotlinx.serialization.Serializable
+import kotlinx.serialization.json.JsonObject
 import com.skt.aionad.addon.bluehands.CarRepairInfo
+import com.skt.aionad.addon.bluehands.CarRepairInfoStore
 import java.time.LocalTime
 import java.time.format.DateTimeFormatter
 import timber.log.Timber
@@ -13,6 +15,10 @@ data class CarRepairRequest(
     val repairStatus: String, // "COMPLETED", "FINAL_INSPECTION", "IN_PROGRESS"
     val estimatedFinishTime: String? = null // "HH:mm:ss" format
 ) {
+    /**
+     * @throws IllegalArgumentException estimatedFinishTime이 비어 있지 않은데 "HH:mm" / "HH:mm:ss"로 해석되지 않는 경우
+     * (CarRepairInfo는 해석할 수 없는 시간을 NO_TIME으로 보관하므로 여기서 거부하지 않으면 값이 조용히 사라짐)
+     */
     fun toCarRepairInfo(): CarRepairInfo {
         val status = when (repairStatus.uppercase()) {
             "COMPLETED" -> CarRepairInfo.RepairStatus.COMPLETED
@@ -35,6 +41,9 @@ data class CarRepairRequest(
             } else {
                 estimatedFinishTime
             }
+            require(CarRepairInfo.parseSecondsOfDay(normalizedTime) != CarRepairInfo.NO_TIME) {
+                "Invalid estimatedFinishTime: '$estimatedFinishTime' (expected HH:mm or HH:mm:ss)"
+            }
             Timber.d("🔄 EstimatedFinishTime processed: '%s' → '%s'", estimatedFinishTime, normalizedTime)
             normalizedTime
         }
@@ -70,6 +79,113 @@ data class CarRepairResponse(
     }
 }
 
+// fields= 로 선택 가능한 CarRepairResponse 필드
+val CAR_REPAIR_RESPONSE_FIELDS = setOf(
+    "licensePlateNumber", "carModel", "repairStatus", "estimatedFinishTime", "requestedTime"
+)
+
+@Serializable
+data class CarRepairPageResponse(
+    val version: Long,
+    val items: List<JsonObject>, // fields= 가 있으면 선택한 필드만 포함
+    val nextCursor: String? = null // null이면 마지막 페이지
+)
+
+@Serializable
+data class CarRepairSummaryResponse(
+    val version: Long,
+    val completed: Int,
+    val finalInspection: Int,
+    val inProgress: Int,
+    val total: Int,
+    val expiredTotal: Long = 0 // 완료 작업 자동 만료로 제거된 누적 건수
+) {
+    companion object {
+        fun fromSnapshot(snapshot: CarRepairInfoStore.Snapshot, expiredTotal: Long): CarRepairSummaryResponse {
+            val counts = snapshot.getStatusCounts()
+            return CarRepairSummaryResponse(
+                snapshot.getVersion(),
+                counts.getCompleted(),
+                counts.getFinalInspection(),
+                counts.getInProgress(),
+                counts.getTotal(),
+                expiredTotal
+            )
+        }
+    }
+}
+
+@Serializable
+data class CarRepairBatchOperation(
+    val op: String, // "add", "update", "delete"
+    val licensePlateNumber: String? = null, // update/delete 대상 (add는 data의 차량번호 사용 가능)
+    val data: CarRepairRequest? = null // add/update 내용
+) {
+    /**
+     * @return 잘못된 항목(알 수 없는 op, 차량번호 없음, 해석할 수 없는 시간)이면 null - 일괄 결과에서 INVALID
+     */
+    fun toStoreOperation(): CarRepairInfoStore.BatchOperation? {
+        return when (op.lowercase()) {
+            "add" -> {
+                val info = data?.toCarRepairInfoOrNull() ?: return null
+                if (info.getLicensePlateNumber().isNullOrBlank() && licensePlateNumber != null) {
+                    info.setLicensePlateNumber(licensePlateNumber)
+                }
+                CarRepairInfoStore.BatchOperation.add(info)
+            }
+            "update" -> {
+                val plate = licensePlateNumber ?: data?.licensePlateNumber ?: return null
+                val info = data?.toCarRepairInfoOrNull() ?: return null
+                CarRepairInfoStore.BatchOperation.update(plate, info)
+            }
+            "delete" -> {
+                val plate = licensePlateNumber ?: data?.licensePlateNumber ?: return null
+                CarRepairInfoStore.BatchOperation.delete(plate)
+            }
+            else -> null
+        }
+    }
+
+    private fun CarRepairRequest.toCarRepairInfoOrNull(): CarRepairInfo? {
+        return try {
+            toCarRepairInfo()
+        } catch (e: IllegalArgumentException) {
+            Timber.w("⚠️ Invalid batch operation data: %s", e.message)
+            null
+        }
+    }
+}
+
+@Serializable
+data class CarRepairBatchRequest(
+    val operations: List<CarRepairBatchOperation>
+)
+
+@Serializable
+data class CarRepairBatchItemResult(
+    val index: Int,
+    val op: String,
+    val licensePlateNumber: String? = null,
+    val result: String // "APPLIED", "CONFLICT", "NOT_FOUND", "INVALID", "NOT_APPLIED" (다른 항목 실패로 미적용)
+)
+
+@Serializable
+data class CarRepairBatchResponse(
+    val version: Long,
+    val applied: Int,
+    val failed: Int,
+    val results: List<CarRepairBatchItemResult>
+)
+
+@Serializable
+data class CarRepairChangesResponse(
+    val sinceVersion: Long,
+    val version: Long, // 다음 요청의 since 값
+    val full: Boolean, // true: since 버전이 보관 범위를 벗어나 items에 전체 목록을 담음
+    val items: List<CarRepairResponse>? = null,
+    val changes: List<CarRepairStreamChange>? = null // DELETE는 data가 null인 tombstone
+)
+
 @Serializable
 data class ApiResponse<T>(
     val success: Boolean,
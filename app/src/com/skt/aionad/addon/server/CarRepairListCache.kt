@@ -0,0 +1,47 @@
+package com.skt.aionad.addon.server
+
+import com.skt.aionad.addon.bluehands.CarRepairInfoStore
+import kotlinx.serialization.encodeToString
+import kotlinx.serialization.json.Json
+import java.util.UUID
+import java.util.concurrent.atomic.AtomicReference
+
+/**
+ * GET /api/car-repair 응답 본문 캐시
+ * 저장소 버전별로 인코딩된 JSON 바이트와 strong ETag를 보관하여 변경이 없으면 다시 직렬화하지 않음
+ * ETag에는 프로세스마다 다른 인스턴스 ID를 넣어 재시작 후 같은 버전 번호와 구분
+ */
+class CarRepairListCache(private val json: Json) {
+
+    class Entry(
+        val version: Long,
+        val etag: String,
+        val bytes: ByteArray,
+        val itemCount: Int
+    )
+
+    private val instanceId = UUID.randomUUID().toString().substring(0, 8)
+    private val cached = AtomicReference<Entry?>(null)
+
+    fun etagOf(version: Long): String = "\"$instanceId-$version\""
+
+    /**
+     * 스냅샷 버전의 캐시 항목 (없으면 인코딩 후 저장, 동시에 만들어져도 결과는 같음)
+     */
+    fun get(snapshot: CarRepairInfoStore.Snapshot): Entry {
+        val current = cached.get()
+        if (current != null && current.version == snapshot.getVersion()) {
+            return current
+        }
+        val responses = snapshot.getItems().map { CarRepairResponse.fromCarRepairInfo(it) }
+        val body = json.encodeToString(ApiResponse(success = true, message = "Success", data = responses))
+        val entry = Entry(snapshot.getVersion(), etagOf(snapshot.getVersion()), body.toByteArray(Charsets.UTF_8), responses.size)
+        // 더 새로운 버전이 이미 캐시되었으면 덮어쓰지 않음
+        while (true) {
+            val existing = cached.get()
+            if (existing != null && existing.version >= entry.version) break
+            if (cached.compareAndSet(existing, entry)) break
+        }
+        return entry
+    }
+}
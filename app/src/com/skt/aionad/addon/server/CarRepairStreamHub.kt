@@ -0,0 +1,186 @@
+package com.skt.aionad.addon.server
+
+import com.skt.aionad.addon.AddOnBluehands
+import com.skt.aionad.addon.bluehands.CarRepairInfoStore
+import io.ktor.utils.io.ByteWriteChannel
+import io.ktor.utils.io.writeStringUtf8
+import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.withTimeoutOrNull
+import kotlinx.serialization.Serializable
+import kotlinx.serialization.encodeToString
+import kotlinx.serialization.json.Json
+import timber.log.Timber
+import java.util.concurrent.CopyOnWriteArraySet
+
+@Serializable
+data class CarRepairStreamSnapshot(
+    val version: Long,
+    val items: List<CarRepairResponse>
+)
+
+@Serializable
+data class CarRepairStreamChange(
+    val version: Long,
+    val type: String, // "ADD", "UPDATE", "DELETE"
+    val licensePlateNumber: String,
+    val data: CarRepairResponse? = null // DELETE는 null
+) {
+    companion object {
+        /**
+         * SSE 스트림과 /api/car-repair/changes가 함께 사용하는 변환
+         * 차량번호는 ADD/UPDATE/DELETE 모두 등록 시 표기(CarRepairResponse.licensePlateNumber와 같은 값)로 보냄
+         */
+        fun fromChange(change: CarRepairInfoStore.Change): CarRepairStreamChange {
+            val info = change.getInfo()
+            return CarRepairStreamChange(
+                change.getVersion(),
+                change.getType().name,
+                change.getLicensePlateNumber(),
+                info?.let { CarRepairResponse.fromCarRepairInfo(it) }
+            )
+        }
+    }
+}
+
+/**
+ * GET /api/car-repair/stream (Server-Sent Events) 구독자 관리
+ * - 저장소 변경 리스너 하나로 받아 구독자별 버퍼에 나눠 담음 (저장소 쓰기 락 안에서는 버퍼에 넣기만 함)
+ * - 구독자 버퍼는 차량번호 기준으로 최신 변경만 남기고(coalescing), 한도를 넘거나 CLEAR가 오면
+ *   버퍼를 비우고 다음 전송 때 전체 스냅샷을 다시 보냄
+ */
+class CarRepairStreamHub(private val addOnBluehands: AddOnBluehands) : CarRepairInfoStore.ChangeListener {
+
+    private val subscribers = CopyOnWriteArraySet<Subscriber>()
+    private val json = Json { encodeDefaults = true }
+
+    class Subscriber(private val maxPending: Int) {
+        private val lock = Any()
+        // 차량번호 -> 마지막 변경 (삽입 순서 = 버전 순서)
+        private val pending = LinkedHashMap<String, CarRepairInfoStore.Change>()
+        private var resyncRequired = false
+        val signal = Channel<Unit>(Channel.CONFLATED)
+
+        fun offer(change: CarRepairInfoStore.Change) {
+            synchronized(lock) {
+                if (!resyncRequired) {
+                    if (change.getType() == CarRepairInfoStore.ChangeType.CLEAR) {
+                        pending.clear()
+                        resyncRequired = true
+                    } else {
+                        pending.remove(change.getPlate())
+                        pending[change.getPlate()] = change
+                        if (pending.size > maxPending) {
+                            pending.clear()
+                            resyncRequired = true
+                        }
+                    }
+                }
+            }
+            signal.trySend(Unit)
+        }
+
+        /**
+         * @return 전체 스냅샷 재전송이 필요하면 null, 아니면 모인 변경 (버전 순서)
+         */
+        fun drain(): List<CarRepairInfoStore.Change>? {
+            synchronized(lock) {
+                if (resyncRequired) {
+                    resyncRequired = false
+                    return null
+                }
+                val changes = ArrayList(pending.values)
+                pending.clear()
+                return changes
+            }
+        }
+    }
+
+    init {
+        addOnBluehands.addCarRepairInfoChangeListener(this)
+    }
+
+    // 저장소 쓰기 락 안에서 호출됨
+    override fun onChange(change: CarRepairInfoStore.Change) {
+        for (subscriber in subscribers) {
+            subscriber.offer(change)
+        }
+    }
+
+    fun close() {
+        addOnBluehands.removeCarRepairInfoChangeListener(this)
+        subscribers.clear()
+    }
+
+    /**
+     * 연결 시 스냅샷을 보내고 이후 변경을 버전과 함께 전송 (클라이언트 연결이 끊어질 때까지 반환하지 않음)
+     */
+    suspend fun stream(channel: ByteWriteChannel, remote: String) {
+        val subscriber = Subscriber(MAX_PENDING_CHANGES)
+        // 구독 등록 후 스냅샷을 읽어야 그 사이의 변경을 놓치지 않음 (스냅샷 버전 이하의 변경은 건너뜀)
+        subscribers.add(subscriber)
+        Timber.i("📡 SSE client connected: %s (subscribers: %d)", remote, subscribers.size)
+        var sentChanges = 0L
+        try {
+            var snapshotVersion = writeSnapshot(channel)
+            while (true) {
+                val signaled = withTimeoutOrNull(HEARTBEAT_INTERVAL_MS) { subscriber.signal.receive() }
+                if (signaled == null) {
+                    // 연결 유지 및 끊긴 연결 감지
+                    channel.writeStringUtf8(": ping\n\n")
+                    channel.flush()
+                    continue
+                }
+                val changes = subscriber.drain()
+                if (changes == null) {
+                    Timber.w("📡 SSE client %s fell behind, resending snapshot", remote)
+                    snapshotVersion = writeSnapshot(channel)
+                    continue
+                }
+                val events = StringBuilder()
+                for (change in changes) {
+                    if (change.getVersion() <= snapshotVersion) continue
+                    appendChange(events, change)
+                    sentChanges++
+                }
+                if (events.isNotEmpty()) {
+                    channel.writeStringUtf8(events.toString())
+                    channel.flush()
+                }
+            }
+        } finally {
+            subscribers.remove(subscriber)
+            Timber.i("📡 SSE client disconnected: %s (sent changes: %d, subscribers: %d)", remote, sentChanges, subscribers.size)
+        }
+    }
+
+    private suspend fun writeSnapshot(channel: ByteWriteChannel): Long {
+        val snapshot = addOnBluehands.getCarRepairInfoSnapshot()
+        val payload = CarRepairStreamSnapshot(
+            snapshot.getVersion(),
+            snapshot.getItems().map { CarRepairResponse.fromCarRepairInfo(it) }
+        )
+        val event = StringBuilder()
+        appendEvent(event, "snapshot", snapshot.getVersion(), json.encodeToString(payload))
+        channel.writeStringUtf8(event.toString())
+        channel.flush()
+        return snapshot.getVersion()
+    }
+
+    private fun appendChange(out: StringBuilder, change: CarRepairInfoStore.Change) {
+        val payload = CarRepairStreamChange.fromChange(change)
+        appendEvent(out, "change", change.getVersion(), json.encodeToString(payload))
+    }
+
+    private fun appendEvent(out: StringBuilder, event: String, id: Long, data: String) {
+        out.append("event: ").append(event)
+            .append("\nid: ").append(id)
+            .append("\ndata: ").append(data)
+            .append("\n\n")
+    }
+
+    companion object {
+        // 구독자별로 모아둘 수 있는 최대 차량 수 (넘으면 스냅샷 재전송)
+        private const val MAX_PENDING_CHANGES = 256
+        private const val HEARTBEAT_INTERVAL_MS = 15_000L
+    }
+}
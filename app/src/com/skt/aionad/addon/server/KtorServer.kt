@@ -6,19 +6,43 @@ import io.ktor.server.cio.*
 import io.ktor.server.engine.*
 import io.ktor.server.plugins.contentnegotiation.*
 import io.ktor.server.plugins.cors.routing.*
+import io.ktor.server.plugins.origin
 import io.ktor.server.request.*
 import io.ktor.server.response.*
 import io.ktor.server.routing.*
 import io.ktor.http.*
 import kotlinx.serialization.Serializable
 import kotlinx.serialization.json.Json
+import kotlinx.serialization.json.JsonObject
+import kotlinx.serialization.json.encodeToJsonElement
+import kotlinx.serialization.json.jsonObject
+import com.skt.aionad.addon.bluehands.CarRepairInfo
+import com.skt.aionad.addon.bluehands.CarRepairInfoStore
 import com.skt.aionad.addon.MainActivity
 import com.skt.aionad.addon.AddOnBluehands
+import com.skt.aionad.addon.utils.ConfigManager
 import timber.log.Timber
 
 @Serializable
 data class TickerRequest(val text: String)
 
+// POST /api/car-repair/batch 한 번에 허용하는 최대 항목 수
+private const val MAX_BATCH_OPERATIONS = 500
+
+// GET /api/car-repair 페이지 조회
+private val PAGE_QUERY_PARAMETERS = listOf("status", "limit", "cursor", "fields")
+private const val DEFAULT_PAGE_LIMIT = 100
+private const val MAX_PAGE_LIMIT = 500
+
+// If-None-Match 헤더에 etag(strong) 또는 *가 포함되어 있는지 확인
+private fun ifNoneMatchMatches(ifNoneMatch: String?, etag: String): Boolean {
+    if (ifNoneMatch.isNullOrBlank()) return false
+    return ifNoneMatch.split(',').any {
+        val candidate = it.trim()
+        candidate == "*" || candidate == etag
+    }
+}
+
 class KtorServer(private val context: android.content.Context) {
 
     private var server: ApplicationEngine? = null
@@ -46,18 +70,24 @@ class KtorServer(private val context: android.content.Context) {
 }
 
 fun Application.module(addOnBluehands: AddOnBluehands?) {
+    val apiJson = Json {
+        prettyPrint = ConfigManager.getInstance().isApiPrettyPrintEnabled()
+        isLenient = true
+        ignoreUnknownKeys = true
+    }
     install(ContentNegotiation) {
-        json(Json {
-            prettyPrint = true
-            isLenient = true
-            ignoreUnknownKeys = true
-        })
+        json(apiJson)
     }
+
+    // 라우트별 요청 수/상태 코드/지연시간 기록 (GET /metrics)
+    install(RequestMetrics)
     
     // CORS 설정 추가
     install(CORS) {
         anyHost() // 모든 호스트 허용 (개발용)
         allowHeader(HttpHeaders.ContentType)
+        allowHeader(HttpHeaders.IfNoneMatch)
+        exposeHeader(HttpHeaders.ETag)
         allowMethod(HttpMethod.Get)
         allowMethod(HttpMethod.Post)
         allowMethod(HttpMethod.Put)
@@ -65,11 +95,44 @@ fun Application.module(addOnBluehands: AddOnBluehands?) {
         allowMethod(HttpMethod.Options)
     }
 
+    // 전체 목록 응답 캐시 (저장소 버전별 인코딩 결과)
+    val listCache = CarRepairListCache(apiJson)
+
+    // 변경 스트림 구독자 관리 (서버 종료 시 저장소 구독 해제)
+    val streamHub = addOnBluehands?.let { CarRepairStreamHub(it) }
+    environment.monitor.subscribe(ApplicationStopped) {
+        streamHub?.close()
+    }
+
     routing {
         get("/") {
             call.respondText("Hello, aionad-add-on-bluehands!")
         }
 
+        // Prometheus text format 메트릭
+        get("/metrics") {
+            call.respondText(
+                ServerMetrics.renderPrometheus(addOnBluehands),
+                ContentType.parse("text/plain; version=0.0.4; charset=utf-8")
+            )
+        }
+
+        // GET /api/render/metrics - 현황판 화면 갱신 주기 측정값 (display.interval 조정용)
+        get("/api/render/metrics") {
+            if (addOnBluehands == null) {
+                call.respond(
+                    HttpStatusCode.ServiceUnavailable,
+                    ApiResponse<Unit>(success = false, message = "AddOnBluehands not available")
+                )
+                return@get
+            }
+            val response = RenderMetricsResponse.from(
+                addOnBluehands.getRenderMetrics(),
+                ConfigManager.getInstance().getCarRepairInfoDisplayInterval()
+            )
+            call.respond(HttpStatusCode.OK, ApiResponse(success = true, message = "Success", data = response))
+        }
+
         get("/status") {
             call.respond(mapOf("status" to "running", "camera" to "connected"))
         }
@@ -100,15 +163,105 @@ fun Application.module(addOnBluehands: AddOnBluehands?) {
                         )
                         return@get
                     }
-                    val carRepairInfos = addOnBluehands.getAllCarRepairInfo()
-                    val responses = carRepairInfos.map { CarRepairResponse.fromCarRepairInfo(it) }
-                    Timber.i("✅ HTTP GET /api/car-repair - Retrieved %d items", carRepairInfos.size)
+                    // 게시된 불변 스냅샷 하나를 그대로 사용 (복사 없음)
+                    val snapshot = addOnBluehands.getCarRepairInfoSnapshot()
+
+                    // status/limit/cursor/fields 중 하나라도 있으면 페이지 단위로 응답
+                    val query = call.request.queryParameters
+                    if (PAGE_QUERY_PARAMETERS.any { query.contains(it) }) {
+                        val status = query["status"]?.let { value ->
+                            CarRepairInfo.RepairStatus.values().firstOrNull { it.name.equals(value, ignoreCase = true) }
+                                ?: return@get call.respond(
+                                    HttpStatusCode.BadRequest,
+                                    ApiResponse<Unit>(success = false, message = "Unknown status: $value")
+                                )
+                        }
+                        val limit = query["limit"]?.let { value ->
+                            value.toIntOrNull()?.takeIf { it in 1..MAX_PAGE_LIMIT }
+                                ?: return@get call.respond(
+                                    HttpStatusCode.BadRequest,
+                                    ApiResponse<Unit>(success = false, message = "limit must be 1..$MAX_PAGE_LIMIT")
+                                )
+                        } ?: DEFAULT_PAGE_LIMIT
+                        val fields = query["fields"]?.split(',')?.map { it.trim() }?.filter { it.isNotEmpty() }?.toSet()
+                        val unknownFields = fields?.minus(CAR_REPAIR_RESPONSE_FIELDS).orEmpty()
+                        if (unknownFields.isNotEmpty()) {
+                            call.respond(
+                                HttpStatusCode.BadRequest,
+                                ApiResponse<Unit>(success = false, message = "Unknown fields: ${unknownFields.joinToString(",")}")
+                            )
+                            return@get
+                        }
+                        val page = try {
+                            snapshot.page(query["cursor"], limit, status)
+                        } catch (e: IllegalArgumentException) {
+                            call.respond(
+                                HttpStatusCode.BadRequest,
+                                ApiResponse<Unit>(success = false, message = "Invalid cursor")
+                            )
+                            return@get
+                        }
+                        val items = page.getItems().map { info ->
+                            val element = apiJson.encodeToJsonElement(CarRepairResponse.fromCarRepairInfo(info)).jsonObject
+                            if (fields == null) element else JsonObject(element.filterKeys { it in fields })
+                        }
+                        Timber.i("✅ HTTP GET /api/car-repair - Page of %d items (version: %d, status: %s, more: %b)",
+                                items.size, page.getVersion(), status?.name ?: "ALL", page.getNextCursor() != null)
+                        call.respond(
+                            HttpStatusCode.OK,
+                            ApiResponse(
+                                success = true,
+                                message = "Success",
+                                data = CarRepairPageResponse(page.getVersion(), items, page.getNextCursor())
+                            )
+                        )
+                        return@get
+                    }
+
+                    val etag = listCache.etagOf(snapshot.getVersion())
+                    call.response.header(HttpHeaders.ETag, etag)
+                    call.response.cacheControl(CacheControl.NoCache(null))
+                    if (ifNoneMatchMatches(call.request.headers[HttpHeaders.IfNoneMatch], etag)) {
+                        // 변경 없음: 본문 직렬화 없이 304
+                        Timber.d("✅ HTTP GET /api/car-repair - Not modified (version: %d)", snapshot.getVersion())
+                        call.respond(HttpStatusCode.NotModified)
+                        return@get
+                    }
+                    val cached = listCache.get(snapshot)
+                    Timber.i("✅ HTTP GET /api/car-repair - Retrieved %d items (version: %d)", cached.itemCount, cached.version)
+                    call.respondBytes(cached.bytes, ContentType.Application.Json, HttpStatusCode.OK)
+                } catch (e: Exception) {
+                    Timber.e(e, "❌ HTTP GET /api/car-repair - Error retrieving list")
+                    call.respond(
+                        HttpStatusCode.InternalServerError,
+                        ApiResponse<Unit>(success = false, message = "Error: ${e.message}")
+                    )
+                }
+            }
+
+            // GET /api/car-repair/summary - 상태별 작업 수 조회
+            get("/summary") {
+                try {
+                    if (addOnBluehands == null) {
+                        Timber.e("❌ AddOnBluehands not available for GET summary request")
+                        call.respond(
+                            HttpStatusCode.ServiceUnavailable,
+                            ApiResponse<Unit>(success = false, message = "AddOnBluehands not available")
+                        )
+                        return@get
+                    }
+                    // 스냅샷에 담긴 상태별 개수를 그대로 사용 (목록 순회 없음)
+                    val summary = CarRepairSummaryResponse.fromSnapshot(
+                        addOnBluehands.getCarRepairInfoSnapshot(),
+                        addOnBluehands.getExpiredCarRepairInfoCount()
+                    )
+                    Timber.d("✅ HTTP GET /api/car-repair/summary - version: %d, total: %d", summary.version, summary.total)
                     call.respond(
                         HttpStatusCode.OK,
-                        ApiResponse(success = true, message = "Success", data = responses)
+                        ApiResponse(success = true, message = "Success", data = summary)
                     )
                 } catch (e: Exception) {
-                    Timber.e(e, "❌ HTTP GET /api/car-repair - Error retrieving list")
+                    Timber.e(e, "❌ HTTP GET /api/car-repair/summary - Error retrieving summary")
                     call.respond(
                         HttpStatusCode.InternalServerError,
                         ApiResponse<Unit>(success = false, message = "Error: ${e.message}")
@@ -116,6 +269,82 @@ fun Application.module(addOnBluehands: AddOnBluehands?) {
                 }
             }
 
+            // GET /api/car-repair/changes?since={version} - 해당 버전 이후 변경분 조회
+            get("/changes") {
+                val since = call.request.queryParameters["since"]?.toLongOrNull()
+                if (since == null || since < 0) {
+                    call.respond(
+                        HttpStatusCode.BadRequest,
+                        ApiResponse<Unit>(success = false, message = "Query parameter 'since' (version >= 0) is required")
+                    )
+                    return@get
+                }
+
+                try {
+                    if (addOnBluehands == null) {
+                        Timber.e("❌ AddOnBluehands not available for changes request")
+                        call.respond(
+                            HttpStatusCode.ServiceUnavailable,
+                            ApiResponse<Unit>(success = false, message = "AddOnBluehands not available")
+                        )
+                        return@get
+                    }
+                    val delta = addOnBluehands.getCarRepairInfoChangesSince(since)
+                    val response = if (delta != null) {
+                        CarRepairChangesResponse(
+                            since,
+                            delta.getVersion(),
+                            full = false,
+                            changes = delta.getChanges().map { CarRepairStreamChange.fromChange(it) }
+                        )
+                    } else {
+                        // 변경 내역 보관 범위를 벗어남: 전체 스냅샷으로 대체
+                        val snapshot = addOnBluehands.getCarRepairInfoSnapshot()
+                        CarRepairChangesResponse(
+                            since,
+                            snapshot.getVersion(),
+                            full = true,
+                            items = snapshot.getItems().map { CarRepairResponse.fromCarRepairInfo(it) }
+                        )
+                    }
+                    Timber.d("✅ HTTP GET /api/car-repair/changes?since=%d - version: %d, full: %b, count: %d",
+                            since, response.version, response.full, response.changes?.size ?: response.items?.size ?: 0)
+                    call.respond(
+                        HttpStatusCode.OK,
+                        ApiResponse(success = true, message = "Success", data = response)
+                    )
+                } catch (e: Exception) {
+                    Timber.e(e, "❌ HTTP GET /api/car-repair/changes - Error retrieving changes")
+                    call.respond(
+                        HttpStatusCode.InternalServerError,
+                        ApiResponse<Unit>(success = false, message = "Error: ${e.message}")
+                    )
+                }
+            }
+
+            // GET /api/car-repair/stream - 변경 스트림 (SSE: 연결 시 snapshot, 이후 버전별 change)
+            get("/stream") {
+                if (streamHub == null) {
+                    Timber.e("❌ AddOnBluehands not available for stream request")
+                    call.respond(
+                        HttpStatusCode.ServiceUnavailable,
+                        ApiResponse<Unit>(success = false, message = "AddOnBluehands not available")
+                    )
+                    return@get
+                }
+                val remote = call.request.origin.remoteHost
+                call.response.cacheControl(CacheControl.NoCache(null))
+                call.response.header("X-Accel-Buffering", "no")
+                try {
+                    call.respondBytesWriter(contentType = ContentType.Text.EventStream) {
+                        streamHub.stream(this, remote)
+                    }
+                } catch (e: Exception) {
+                    // 클라이언트 연결 종료
+                    Timber.d("📡 SSE stream closed for %s: %s", remote, e.message)
+                }
+            }
+
             // GET /api/car-repair/{plate} - 특정 차량 조회
             get("/{plate}") {
                 val plate = call.parameters["plate"] ?: return@get call.respond(
@@ -206,6 +435,66 @@ fun Application.module(addOnBluehands: AddOnBluehands?) {
                 }
             }
 
+            // POST /api/car-repair/batch - 여러 추가/수정/삭제를 한 번에 적용
+            post("/batch") {
+                try {
+                    val request = call.receive<CarRepairBatchRequest>()
+                    Timber.i("🌐 HTTP POST /api/car-repair/batch - Received %d operations", request.operations.size)
+
+                    if (addOnBluehands == null) {
+                        Timber.e("❌ AddOnBluehands not available for batch request")
+                        call.respond(
+                            HttpStatusCode.ServiceUnavailable,
+                            ApiResponse<Unit>(success = false, message = "AddOnBluehands not available")
+                        )
+                        return@post
+                    }
+                    if (request.operations.isEmpty() || request.operations.size > MAX_BATCH_OPERATIONS) {
+                        Timber.w("⚠️ HTTP POST /api/car-repair/batch - Invalid operation count: %d", request.operations.size)
+                        call.respond(
+                            HttpStatusCode.BadRequest,
+                            ApiResponse<Unit>(success = false, message = "Operation count must be 1..$MAX_BATCH_OPERATIONS")
+                        )
+                        return@post
+                    }
+
+                    val result = addOnBluehands.applyCarRepairInfoBatchApi(request.operations.map { it.toStoreOperation() })
+                    val results = request.operations.mapIndexed { index, operation ->
+                        CarRepairBatchItemResult(
+                            index,
+                            operation.op,
+                            operation.licensePlateNumber ?: operation.data?.licensePlateNumber,
+                            result.getStatuses()[index].name
+                        )
+                    }
+                    // 전부 적용되거나 전혀 적용되지 않음 (실패 항목 외에는 NOT_APPLIED)
+                    val failed = result.getStatuses().count {
+                        it != CarRepairInfoStore.BatchItemStatus.APPLIED && it != CarRepairInfoStore.BatchItemStatus.NOT_APPLIED
+                    }
+                    if (failed == 0) {
+                        Timber.i("✅ HTTP POST /api/car-repair/batch - Applied %d (version: %d)",
+                                result.getAppliedCount(), result.getVersion())
+                    } else {
+                        Timber.w("⚠️ HTTP POST /api/car-repair/batch - Rejected, %d failed operations (version: %d)",
+                                failed, result.getVersion())
+                    }
+                    call.respond(
+                        if (failed == 0) HttpStatusCode.OK else HttpStatusCode.Conflict,
+                        ApiResponse(
+                            success = failed == 0,
+                            message = if (failed == 0) "Batch applied successfully" else "Batch rejected: $failed failed operations, nothing applied",
+                            data = CarRepairBatchResponse(result.getVersion(), result.getAppliedCount(), failed, results)
+                        )
+                    )
+                } catch (e: Exception) {
+                    Timber.e(e, "❌ HTTP POST /api/car-repair/batch - Error processing request")
+                    call.respond(
+                        HttpStatusCode.BadRequest,
+                        ApiResponse<Unit>(success = false, message = "Invalid request: ${e.message}")
+                    )
+                }
+            }
+
             // PUT /api/car-repair/{plate} - 차량 정보 수정
             put("/{plate}") {
                 val plate = call.parameters["plate"] ?: return@put call.respond(
@@ -0,0 +1,225 @@
+package com.skt.aionad.addon.server
+
+import com.skt.aionad.addon.AddOnBluehands
+import com.skt.aionad.addon.bluehands.CarRepairInfo
+import com.skt.aionad.addon.bluehands.RenderMetrics
+import com.skt.aionad.addon.utils.LatencyHistogram
+import io.ktor.server.application.*
+import io.ktor.server.application.hooks.ResponseSent
+import io.ktor.server.request.*
+import io.ktor.server.routing.*
+import io.ktor.util.*
+import kotlinx.serialization.Serializable
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * REST API 요청 메트릭 (라우트별 요청 수, 상태 코드, 지연시간 분위수)
+ * GET /metrics 에서 Prometheus text format(0.0.4)으로 노출
+ * summary의 _sum/_count는 시작 이후 누적, quantile은 최근 1~2분(LatencyHistogram 구간) 기준
+ */
+object ServerMetrics {
+
+    class RouteMetrics(val method: String, val route: String) {
+        val latency = LatencyHistogram()
+        val countByStatus = ConcurrentHashMap<Int, AtomicLong>()
+    }
+
+    private val QUANTILES = doubleArrayOf(0.5, 0.95, 0.99)
+    private val routes = ConcurrentHashMap<String, RouteMetrics>()
+
+    fun record(method: String, route: String, status: Int, durationNanos: Long) {
+        val metrics = routes.computeIfAbsent("$method $route") { RouteMetrics(method, route) }
+        metrics.latency.recordNanos(durationNanos)
+        metrics.countByStatus.computeIfAbsent(status) { AtomicLong() }.incrementAndGet()
+    }
+
+    /**
+     * 요청 메트릭과 저장소 게이지를 Prometheus text format으로 작성
+     */
+    fun renderPrometheus(addOnBluehands: AddOnBluehands?): String {
+        val out = StringBuilder(4096)
+        val sortedRoutes = routes.values.sortedWith(compareBy({ it.route }, { it.method }))
+
+        out.append("# HELP aionad_http_requests_total HTTP requests by route and status code\n")
+        out.append("# TYPE aionad_http_requests_total counter\n")
+        for (metrics in sortedRoutes) {
+            for ((status, count) in metrics.countByStatus.entries.sortedBy { it.key }) {
+                out.append("aionad_http_requests_total{method=\"").append(metrics.method)
+                    .append("\",route=\"").append(escapeLabel(metrics.route))
+                    .append("\",status=\"").append(status).append("\"} ")
+                    .append(count.get()).append('\n')
+            }
+        }
+
+        out.append("# HELP aionad_http_request_duration_seconds HTTP request latency by route (quantiles over the last 1-2 minutes)\n")
+        out.append("# TYPE aionad_http_request_duration_seconds summary\n")
+        for (metrics in sortedRoutes) {
+            val labels = "method=\"${metrics.method}\",route=\"${escapeLabel(metrics.route)}\""
+            for (quantile in QUANTILES) {
+                out.append("aionad_http_request_duration_seconds{").append(labels)
+                    .append(",quantile=\"").append(quantile).append("\"} ")
+                    .append(metrics.latency.getQuantileMicros(quantile) / 1_000_000.0).append('\n')
+            }
+            out.append("aionad_http_request_duration_seconds_sum{").append(labels).append("} ")
+                .append(metrics.latency.getSumMicros() / 1_000_000.0).append('\n')
+            out.append("aionad_http_request_duration_seconds_count{").append(labels).append("} ")
+                .append(metrics.latency.getCount()).append('\n')
+        }
+
+        if (addOnBluehands != null) {
+            val snapshot = addOnBluehands.getCarRepairInfoSnapshot()
+            val counts = snapshot.getStatusCounts()
+
+            out.append("# HELP aionad_car_repair_store_version Current car repair store version\n")
+            out.append("# TYPE aionad_car_repair_store_version gauge\n")
+            out.append("aionad_car_repair_store_version ").append(snapshot.getVersion()).append('\n')
+
+            out.append("# HELP aionad_car_repair_jobs Car repair jobs by status\n")
+            out.append("# TYPE aionad_car_repair_jobs gauge\n")
+            for (status in CarRepairInfo.RepairStatus.values()) {
+                out.append("aionad_car_repair_jobs{status=\"").append(status.name).append("\"} ")
+                    .append(counts.get(status)).append('\n')
+            }
+
+            out.append("# HELP aionad_car_repair_snapshot_build_seconds Duration of the last ordered snapshot build\n")
+            out.append("# TYPE aionad_car_repair_snapshot_build_seconds gauge\n")
+            out.append("aionad_car_repair_snapshot_build_seconds ")
+                .append(addOnBluehands.getLastCarRepairInfoSnapshotBuildNanos() / 1_000_000_000.0).append('\n')
+
+            out.append("# HELP aionad_car_repair_expired_total Completed jobs removed by expiry\n")
+            out.append("# TYPE aionad_car_repair_expired_total counter\n")
+            out.append("aionad_car_repair_expired_total ").append(addOnBluehands.getExpiredCarRepairInfoCount()).append('\n')
+
+            renderRenderMetrics(out, addOnBluehands.getRenderMetrics())
+        }
+        return out.toString()
+    }
+
+    private fun renderRenderMetrics(out: StringBuilder, metrics: RenderMetrics) {
+        out.append("# HELP aionad_render_duration_seconds Status board render cycle timings by stage (quantiles over the last 1-2 minutes)\n")
+        out.append("# TYPE aionad_render_duration_seconds summary\n")
+        val stages = listOf(
+            "schedule_drift" to metrics.getScheduleDrift(),
+            "fill_js" to metrics.getFillJsRoundTrip(),
+            "frame_present" to metrics.getFramePresent(),
+            "page_cycle" to metrics.getPageCycle()
+        )
+        for ((stage, histogram) in stages) {
+            for (quantile in QUANTILES) {
+                out.append("aionad_render_duration_seconds{stage=\"").append(stage)
+                    .append("\",quantile=\"").append(quantile).append("\"} ")
+                    .append(histogram.getQuantileMicros(quantile) / 1_000_000.0).append('\n')
+            }
+            out.append("aionad_render_duration_seconds_sum{stage=\"").append(stage).append("\"} ")
+                .append(histogram.getSumMicros() / 1_000_000.0).append('\n')
+            out.append("aionad_render_duration_seconds_count{stage=\"").append(stage).append("\"} ")
+                .append(histogram.getCount()).append('\n')
+        }
+
+        out.append("# HELP aionad_render_skipped_updates_total Status board updates skipped\n")
+        out.append("# TYPE aionad_render_skipped_updates_total counter\n")
+        out.append("aionad_render_skipped_updates_total ").append(metrics.getSkippedUpdates()).append('\n')
+
+        out.append("# HELP aionad_render_webview_resets_total Complete status board WebView resets\n")
+        out.append("# TYPE aionad_render_webview_resets_total counter\n")
+        out.append("aionad_render_webview_resets_total ").append(metrics.getWebViewResets()).append('\n')
+
+        out.append("# HELP aionad_render_js_memory_resets_total Status board JavaScript memory resets\n")
+        out.append("# TYPE aionad_render_js_memory_resets_total counter\n")
+        out.append("aionad_render_js_memory_resets_total ").append(metrics.getJsMemoryResets()).append('\n')
+
+        out.append("# HELP aionad_render_ack_timeouts_total Status board frame acknowledgements that timed out\n")
+        out.append("# TYPE aionad_render_ack_timeouts_total counter\n")
+        out.append("aionad_render_ack_timeouts_total ").append(metrics.getAckTimeouts()).append('\n')
+    }
+
+    private fun escapeLabel(value: String): String {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n")
+    }
+}
+
+/**
+ * GET /api/render/metrics 응답 (ms 단위 분위수)
+ * count/meanMs/maxMs는 시작 이후 누적, p50/p95/p99는 최근 1~2분 기준
+ */
+@Serializable
+data class RenderTimingResponse(
+    val count: Long,
+    val meanMs: Double,
+    val p50Ms: Double,
+    val p95Ms: Double,
+    val p99Ms: Double,
+    val maxMs: Double
+) {
+    companion object {
+        fun fromHistogram(histogram: LatencyHistogram): RenderTimingResponse {
+            return RenderTimingResponse(
+                histogram.getCount(),
+                histogram.getMeanMicros() / 1000.0,
+                histogram.getQuantileMicros(0.5) / 1000.0,
+                histogram.getQuantileMicros(0.95) / 1000.0,
+                histogram.getQuantileMicros(0.99) / 1000.0,
+                histogram.getMaxMicros() / 1000.0
+            )
+        }
+    }
+}
+
+@Serializable
+data class RenderMetricsResponse(
+    val displayIntervalMs: Long,
+    val scheduleDrift: RenderTimingResponse, // 예약 간격 대비 실제 간격 편차
+    val fillJs: RenderTimingResponse, // render 입력 전송부터 페이지 응답까지 (채널 사용 시 프레임 반영 대기 포함)
+    val framePresent: RenderTimingResponse, // 페이지에서 측정한 render() 시작부터 변경이 그려진 프레임까지
+    val pageCycle: RenderTimingResponse, // 예약 실행부터 다음 예약까지 페이지 한 번의 전체 갱신
+    val skippedUpdates: Long,
+    val webViewResets: Long,
+    val jsMemoryResets: Long,
+    val ackTimeouts: Long
+) {
+    companion object {
+        fun from(metrics: RenderMetrics, displayIntervalMs: Long): RenderMetricsResponse {
+            return RenderMetricsResponse(
+                displayIntervalMs,
+                RenderTimingResponse.fromHistogram(metrics.getScheduleDrift()),
+                RenderTimingResponse.fromHistogram(metrics.getFillJsRoundTrip()),
+                RenderTimingResponse.fromHistogram(metrics.getFramePresent()),
+                RenderTimingResponse.fromHistogram(metrics.getPageCycle()),
+                metrics.getSkippedUpdates(),
+                metrics.getWebViewResets(),
+                metrics.getJsMemoryResets(),
+                metrics.getAckTimeouts()
+            )
+        }
+    }
+}
+
+private val RequestStartNanosKey = AttributeKey<Long>("RequestMetricsStartNanos")
+private val RequestRouteKey = AttributeKey<String>("RequestMetricsRoute")
+
+/**
+ * 요청 시작 시각을 기록하고 응답 전송 후 라우트별 메트릭에 반영
+ * 라우트 이름은 매칭된 라우트 경로(예: /api/car-repair/{plate})를 사용하여 차량번호별로 나뉘지 않게 함
+ */
+val RequestMetrics = createApplicationPlugin(name = "RequestMetrics") {
+    application.environment.monitor.subscribe(Routing.RoutingCallStarted) { call ->
+        val route = call.route
+        val path = if (route.selector is HttpMethodRouteSelector) route.parent ?: route else route
+        call.attributes.put(RequestRouteKey, path.toString())
+    }
+
+    onCall { call ->
+        call.attributes.put(RequestStartNanosKey, System.nanoTime())
+    }
+
+    on(ResponseSent) { call ->
+        val startNanos = call.attributes.getOrNull(RequestStartNanosKey) ?: return@on
+        ServerMetrics.record(
+            call.request.httpMethod.value,
+            call.attributes.getOrNull(RequestRouteKey) ?: "unmatched",
+            call.response.status()?.value ?: 0,
+            System.nanoTime() - startNanos
+        )
+    }
+}
@@ -0,0 +1,278 @@
+package com.skt.aionad.addon.utils;
+
+import android.os.Process;
+import android.util.Log;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 비동기 로그 기록기
+ * - 호출 스레드는 고정 크기 링 버퍼에 로그 줄을 넣기만 함 (락 없음, 디스크 I/O 없음)
+ * - 단일 백그라운드 스레드가 모아서 한 번에 기록하고, 시간/크기 기준으로 내보냄 (회전은 LogAppender가 처리)
+ * - 버퍼가 가득 차면 설정에 따라 버리거나(drop) 빈 자리가 날 때까지 대기(block)
+ * - WARN 이상은 모으지 않고 바로 내보내도록 기록 스레드를 깨움
+ */
+public class AsyncLogWriter {
+
+    private static final String TAG = "AsyncLogWriter";
+
+    public enum OverflowPolicy {
+        DROP,
+        BLOCK;
+
+        public static OverflowPolicy parse(String value) {
+            return "block".equalsIgnoreCase(value) ? BLOCK : DROP;
+        }
+    }
+
+    // block 정책에서 빈 자리를 기다리는 간격
+    private static final long BLOCK_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+    // 종료 시 남은 로그를 기록하기까지 기다리는 최대 시간
+    private static final long STOP_TIMEOUT_MS = 2000;
+
+    private final LogAppender appender;
+    private final RecordQueue queue;
+    private final OverflowPolicy overflowPolicy;
+    private final long flushIntervalNanos;
+    private final int flushBytes;
+    private final Thread thread;
+
+    private volatile boolean running = true;
+    private volatile boolean parked = false;
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    // 기록 스레드 전용 배치 버퍼
+    private byte[] batch;
+    private int batchSize = 0;
+    private long reportedDropped = 0;
+
+    public AsyncLogWriter(LogAppender appender, int bufferSize, OverflowPolicy overflowPolicy,
+                          long flushIntervalMs, int flushBytes) {
+        this.appender = appender;
+        this.queue = new RecordQueue(bufferSize);
+        this.overflowPolicy = overflowPolicy;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, flushIntervalMs));
+        this.flushBytes = Math.max(1024, flushBytes);
+        this.batch = new byte[this.flushBytes + 1024];
+        this.thread = new Thread(this::runLoop, "log-writer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * 로그 줄을 기록 대기열에 추가
+     * @param urgent true면 모으지 않고 바로 내보냄 (WARN/ERROR)
+     * @return 기록기가 이미 종료되어 호출자가 직접 기록해야 하면 false (drop 정책으로 버려진 경우는 true)
+     */
+    public boolean enqueue(String line, boolean urgent) {
+        if (!running) {
+            return false;
+        }
+        if (!queue.offer(line)) {
+            // 기록 스레드 자신이 대기하면 교착되므로 항상 버림
+            if (overflowPolicy == OverflowPolicy.DROP || Thread.currentThread() == thread) {
+                droppedCount.incrementAndGet();
+                return true;
+            }
+            do {
+                wakeWriter();
+                LockSupport.parkNanos(this, BLOCK_WAIT_NANOS);
+                if (!running) {
+                    return false;
+                }
+            } while (!queue.offer(line));
+        }
+        if (urgent) {
+            flushRequested.set(true);
+            wakeWriter();
+        } else if (queue.size() >= queue.capacity() / 2) {
+            // 버퍼가 절반 이상 차면 주기를 기다리지 않고 비움
+            wakeWriter();
+        }
+        return true;
+    }
+
+    /**
+     * 대기 중인 로그를 곧바로 내보내도록 요청 (완료를 기다리지 않음)
+     */
+    public void requestFlush() {
+        flushRequested.set(true);
+        wakeWriter();
+    }
+
+    /**
+     * 남은 로그를 모두 기록하고 기록 스레드 종료
+     */
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(STOP_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private void wakeWriter() {
+        if (parked) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void runLoop() {
+        Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+        long lastWriteNanos = System.nanoTime();
+
+        while (true) {
+            String line;
+            while ((line = queue.poll()) != null) {
+                appendToBatch(line);
+                if (batchSize >= flushBytes) {
+                    writeBatch();
+                    lastWriteNanos = System.nanoTime();
+                }
+            }
+            appendDroppedNotice();
+
+            boolean stopping = !running;
+            boolean flushNow = flushRequested.getAndSet(false);
+            long elapsed = System.nanoTime() - lastWriteNanos;
+            if (batchSize > 0 && (flushNow || stopping || elapsed >= flushIntervalNanos)) {
+                writeBatch();
+                lastWriteNanos = System.nanoTime();
+                elapsed = 0;
+            }
+            if (stopping && queue.size() == 0) {
+                break;
+            }
+
+            parked = true;
+            // parked 설정 이후 들어온 로그가 있으면 잠들지 않음 (깨우기 누락 방지)
+            if (queue.size() == 0 && !flushRequested.get() && running) {
+                long waitNanos = batchSize > 0 ? flushIntervalNanos - elapsed : flushIntervalNanos;
+                LockSupport.parkNanos(this, Math.max(waitNanos, 1));
+            }
+            parked = false;
+        }
+
+        try {
+            appender.flush();
+        } catch (IOException e) {
+            Log.e(TAG, "Failed to flush log file", e);
+        }
+        appender.close();
+    }
+
+    private void appendDroppedNotice() {
+        long dropped = droppedCount.get();
+        if (dropped != reportedDropped) {
+            appendToBatch("[log-writer] " + (dropped - reportedDropped) + " log records dropped (buffer full)\n");
+            reportedDropped = dropped;
+        }
+    }
+
+    private void appendToBatch(String line) {
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        if (batchSize + bytes.length > batch.length) {
+            batch = Arrays.copyOf(batch, Math.max(batch.length * 2, batchSize + bytes.length));
+        }
+        System.arraycopy(bytes, 0, batch, batchSize, bytes.length);
+        batchSize += bytes.length;
+    }
+
+    private void writeBatch() {
+        try {
+            appender.append(batch, 0, batchSize);
+            appender.flush();
+        } catch (IOException e) {
+            Log.e(TAG, "Failed to write " + batchSize + " bytes of log", e);
+        }
+        batchSize = 0;
+        // 긴 스택 트레이스 등으로 커진 버퍼는 원래 크기로 되돌림
+        if (batch.length > flushBytes * 4) {
+            batch = new byte[flushBytes + 1024];
+        }
+    }
+
+    /**
+     * 다중 생산자/단일 소비자 고정 크기 큐 (슬롯별 시퀀스 번호로 락 없이 동작)
+     * 생산자는 tail 위치를 CAS로 예약한 뒤 값을 넣고 시퀀스를 올려 소비자에게 공개함
+     */
+    static final class RecordQueue {
+        private final int mask;
+        private final AtomicReferenceArray<String> slots;
+        private final AtomicLongArray sequences;
+        private final AtomicLong tail = new AtomicLong();
+        // 소비자만 갱신 (size 계산용으로 volatile)
+        private volatile long head = 0;
+
+        RecordQueue(int requestedCapacity) {
+            int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+            this.mask = capacity - 1;
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.sequences = new AtomicLongArray(capacity);
+            for (int i = 0; i < capacity; i++) {
+                sequences.set(i, i);
+            }
+        }
+
+        int capacity() {
+            return mask + 1;
+        }
+
+        int size() {
+            return (int) Math.max(0, Math.min(tail.get() - head, capacity()));
+        }
+
+        boolean offer(String value) {
+            long position = tail.get();
+            while (true) {
+                int index = (int) (position & mask);
+                long difference = sequences.get(index) - position;
+                if (difference == 0) {
+                    if (tail.compareAndSet(position, position + 1)) {
+                        slots.lazySet(index, value);
+                        sequences.lazySet(index, position + 1);
+                        return true;
+                    }
+                    position = tail.get();
+                } else if (difference < 0) {
+                    // 한 바퀴 전의 값이 아직 소비되지 않음 (가득 참)
+                    return false;
+                } else {
+                    position = tail.get();
+                }
+            }
+        }
+
+        String poll() {
+            long position = head;
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                // 비어 있거나 예약된 슬롯에 아직 값이 공개되지 않음
+                return null;
+            }
+            String value = slots.get(index);
+            slots.lazySet(index, null);
+            sequences.lazySet(index, position + mask + 1);
+            head = position + 1;
+            return value;
+        }
+    }
+}
@@ -24,10 +24,21 @@ public class ConfigManager {
     private long mLogMaxFileSize = 5 * 1024 * 1024; // 5 MB
     private int mLogMaxBackupIndex = 3;
     private String mLogFrontendLevel = "DEBUG"; // "VERBOSE", "DEBUG", "INFO", "WARN", "ERROR"
+    private long mLogMaxTotalSize = 0; // 현재 파일과 백업의 전체 크기 제한, 0 이하면 maxBackupIndex 개수 기준
+    private boolean mLogCompressEnabled = false; // 회전된 백업을 gzip으로 압축
+    private String mLogAppender = "file"; // "file" or "mmap" (미리 확보한 메모리 매핑 세그먼트)
+    private boolean mLogAsyncEnabled = false; // 파일 로그를 백그라운드 스레드에서 기록
+    private int mLogAsyncBufferSize = 8192; // 대기열 크기 (로그 줄 수, 2의 거듭제곱으로 올림)
+    private String mLogAsyncOverflowPolicy = "drop"; // "drop" or "block"
+    private long mLogAsyncFlushIntervalMs = 1000; // in milliseconds
+    private int mLogAsyncFlushBytes = 64 * 1024; // 모인 크기가 이 이상이면 바로 기록
     private boolean mMonitorEnabled = true;
     private int mMonitorInterval = 2000; // in milliseconds
     private boolean mFullScreenEnabled = false;
     private long mCarRepairInfoInterval = 4000; // in milliseconds          
+    private String mCarRepairInfoDisplayMode = "server"; // "server" (앱이 주기마다 페이지 갱신) or "client" (페이지가 직접 넘김)
+    private long mCarRepairInfoCompletedTtlMinutes = 0; // 0 이하: 완료 작업 자동 만료 안 함
+    private boolean mApiPrettyPrintEnabled = false; // REST 응답 JSON 들여쓰기
 
     public void loadConfig(Context context) {
         AssetManager assetManager = context.getAssets();
@@ -71,12 +82,25 @@ public class ConfigManager {
                 mLogType = logConfig.optString("type", mLogType);
                 mLogMaxFileSize = logConfig.optLong("maxFileSize", mLogMaxFileSize);
                 mLogMaxBackupIndex = logConfig.optInt("maxBackupIndex", mLogMaxBackupIndex);
+                mLogMaxTotalSize = logConfig.optLong("maxTotalSize", mLogMaxTotalSize);
+                mLogCompressEnabled = logConfig.optBoolean("compress", mLogCompressEnabled);
+                mLogAppender = logConfig.optString("appender", mLogAppender);
                 if (logConfig.has("frontend")) {
                     JSONObject frontendConfig = logConfig.optJSONObject("frontend");
                     if (frontendConfig != null) {
                         mLogFrontendLevel = frontendConfig.optString("level", mLogFrontendLevel);
                     }
                 }
+                if (logConfig.has("async")) {
+                    JSONObject asyncConfig = logConfig.optJSONObject("async");
+                    if (asyncConfig != null) {
+                        mLogAsyncEnabled = asyncConfig.optBoolean("enable", mLogAsyncEnabled);
+                        mLogAsyncBufferSize = asyncConfig.optInt("bufferSize", mLogAsyncBufferSize);
+                        mLogAsyncOverflowPolicy = asyncConfig.optString("overflowPolicy", mLogAsyncOverflowPolicy);
+                        mLogAsyncFlushIntervalMs = asyncConfig.optLong("flushInterval", mLogAsyncFlushIntervalMs);
+                        mLogAsyncFlushBytes = asyncConfig.optInt("flushBytes", mLogAsyncFlushBytes);
+                    }
+                }
             }
         }
 
@@ -96,13 +120,24 @@ public class ConfigManager {
                 mFullScreenEnabled = fullScreenConfig.optBoolean("enable", mFullScreenEnabled);
             }
         }
+        // api
+        if (mConfig.has("api")) {
+            JSONObject apiConfig = mConfig.optJSONObject("api");
+            if (apiConfig != null) {
+                mApiPrettyPrintEnabled = apiConfig.optBoolean("prettyPrint", mApiPrettyPrintEnabled);
+            }
+        }
         // carRepairInfo
         if (mConfig.has("carRepairInfo")) {
             JSONObject carRepairInfoConfig = mConfig.optJSONObject("carRepairInfo");
+            if (carRepairInfoConfig != null) {
+                mCarRepairInfoCompletedTtlMinutes = carRepairInfoConfig.optLong("completedTtlMinutes", mCarRepairInfoCompletedTtlMinutes);
+            }
             if (carRepairInfoConfig != null && carRepairInfoConfig.has("display")) {
                 JSONObject displayConfig = carRepairInfoConfig.optJSONObject("display");
                 if (displayConfig != null) {
                     mCarRepairInfoInterval = displayConfig.optLong("interval", mCarRepairInfoInterval);
+                    mCarRepairInfoDisplayMode = displayConfig.optString("mode", mCarRepairInfoDisplayMode);
                 }
             }
         }
@@ -123,6 +158,38 @@ public class ConfigManager {
         return mLogFrontendLevel;
     }
 
+    public long getLogMaxTotalSize() {
+        return mLogMaxTotalSize;
+    }
+
+    public boolean isLogCompressEnabled() {
+        return mLogCompressEnabled;
+    }
+
+    public String getLogAppender() {
+        return mLogAppender;
+    }
+
+    public boolean isLogAsyncEnabled() {
+        return mLogAsyncEnabled;
+    }
+
+    public int getLogAsyncBufferSize() {
+        return mLogAsyncBufferSize;
+    }
+
+    public String getLogAsyncOverflowPolicy() {
+        return mLogAsyncOverflowPolicy;
+    }
+
+    public long getLogAsyncFlushIntervalMs() {
+        return mLogAsyncFlushIntervalMs;
+    }
+
+    public int getLogAsyncFlushBytes() {
+        return mLogAsyncFlushBytes;
+    }
+
     public boolean isMonitorEnabled() {
         return mMonitorEnabled;
     }
@@ -139,6 +206,18 @@ public class ConfigManager {
         return mCarRepairInfoInterval;
     }
 
+    public String getCarRepairInfoDisplayMode() {
+        return mCarRepairInfoDisplayMode;
+    }
+
+    public long getCarRepairInfoCompletedTtlMinutes() {
+        return mCarRepairInfoCompletedTtlMinutes;
+    }
+
+    public boolean isApiPrettyPrintEnabled() {
+        return mApiPrettyPrintEnabled;
+    }
+
     public static ConfigManager getInstance() {
         if (sInstance == null) {
             synchronized (ConfigManager.class) {
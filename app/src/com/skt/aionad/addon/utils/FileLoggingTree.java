@@ -7,27 +7,27 @@ import org.jetbrains.annotations.Nullable;
 import timber.log.Timber;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.Locale;
+import java.nio.charset.StandardCharsets;
 
 /**
  * 파일 기반 로깅을 위한 Timber Tree 구현
  * 로그 파일 회전(rotation) 및 크기 제한 기능 포함
+ * log.async.enable 이면 호출 스레드는 대기열에 넣기만 하고 백그라운드 스레드가 모아서 기록
  */
 public class FileLoggingTree extends Timber.DebugTree {
 
     private static final String LOG_FILE_PREFIX = "aionad-addon";
     private static final String LOG_FILE_EXTENSION = ".log";
-    private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS", Locale.getDefault());
 
     private final Context context;
     private final int minLogLevel;
     private final long maxFileSize;
     private final int maxBackupIndex;
     private final File logDir;
+    private final LogArchiver archiver;
+    private final LogAppender appender;
+    private final AsyncLogWriter asyncWriter; // 동기 모드면 null
 
     public FileLoggingTree(Context context) {
         this(context, "DEBUG");
@@ -51,6 +51,26 @@ public class FileLoggingTree extends Timber.DebugTree {
                 Log.e("FileLoggingTree", "Failed to create log directory: " + logDir.getAbsolutePath());
             }
         }
+
+        // 회전/압축 중인 파일과 예비 세그먼트는 로그 수집 대상(logs)이 아닌 별도 디렉토리에 둠
+        File spoolDir = new File(context.getFilesDir(), "log-spool");
+        String fileName = LOG_FILE_PREFIX + LOG_FILE_EXTENSION;
+        this.archiver = new LogArchiver(logDir, spoolDir, fileName, maxBackupIndex,
+                config.getLogMaxTotalSize(), config.isLogCompressEnabled());
+        if ("mmap".equalsIgnoreCase(config.getLogAppender())) {
+            this.appender = new MappedLogAppender(logDir, spoolDir, fileName, maxFileSize, archiver);
+        } else {
+            this.appender = new RollingFileAppender(logDir, fileName, maxFileSize, archiver);
+        }
+        if (config.isLogAsyncEnabled()) {
+            this.asyncWriter = new AsyncLogWriter(appender,
+                    config.getLogAsyncBufferSize(),
+                    AsyncLogWriter.OverflowPolicy.parse(config.getLogAsyncOverflowPolicy()),
+                    config.getLogAsyncFlushIntervalMs(),
+                    config.getLogAsyncFlushBytes());
+        } else {
+            this.asyncWriter = null;
+        }
     }
 
     private int parseLogLevel(String level) {
@@ -74,12 +94,18 @@ public class FileLoggingTree extends Timber.DebugTree {
     @Override
     protected void log(int priority, @Nullable String tag, @NotNull String message, @Nullable Throwable t) {
         try {
+            // 구조화 로그는 시각/레벨/스레드가 이미 포함된 JSON 한 줄 그대로 기록
+            if (StructuredLog.STRUCTURED_TAG.equals(tag) && t == null) {
+                enqueueOrWrite(message + "\n", priority);
+                return;
+            }
+
             String logLevel = priorityToString(priority);
-            String timestamp = DATE_FORMAT.format(new Date());
+            String timestamp = LogTimestamp.now();
             String threadName = Thread.currentThread().getName();
             
             // 로그 메시지 포맷: [TIMESTAMP] [LEVEL] [THREAD] [TAG] MESSAGE
-            StringBuilder logBuilder = new StringBuilder();
+            StringBuilder logBuilder = new StringBuilder(timestamp.length() + message.length() + 64);
             logBuilder.append("[").append(timestamp).append("] ");
             logBuilder.append("[").append(logLevel).append("] ");
             logBuilder.append("[").append(threadName).append("] ");
@@ -95,13 +121,20 @@ public class FileLoggingTree extends Timber.DebugTree {
             
             logBuilder.append("\n");
             
-            writeToFile(logBuilder.toString());
+            enqueueOrWrite(logBuilder.toString(), priority);
             
         } catch (Exception e) {
             Log.e("FileLoggingTree", "Error writing log to file", e);
         }
     }
 
+    private void enqueueOrWrite(String logLine, int priority) {
+        // 비동기 기록기가 종료된 뒤에는 직접 기록
+        if (asyncWriter == null || !asyncWriter.enqueue(logLine, priority >= Log.WARN)) {
+            writeToFile(logLine);
+        }
+    }
+
     private String priorityToString(int priority) {
         switch (priority) {
             case Log.VERBOSE: return "V";
@@ -113,77 +146,57 @@ public class FileLoggingTree extends Timber.DebugTree {
         }
     }
 
-    private synchronized void writeToFile(String logMessage) {
-        File currentLogFile = getCurrentLogFile();
-        
+    private void writeToFile(String logMessage) {
         try {
-            // 파일 크기 확인 및 회전
-            if (currentLogFile.exists() && currentLogFile.length() >= maxFileSize) {
-                rotateLogFiles();
-                currentLogFile = getCurrentLogFile();
-            }
-            
-            // 로그 파일에 쓰기
-            try (FileWriter writer = new FileWriter(currentLogFile, true)) {
-                writer.write(logMessage);
-                writer.flush();
-            }
-            
+            byte[] bytes = logMessage.getBytes(StandardCharsets.UTF_8);
+            appender.append(bytes, 0, bytes.length);
         } catch (IOException e) {
-            Log.e("FileLoggingTree", "Failed to write log to file: " + currentLogFile.getAbsolutePath(), e);
+            Log.e("FileLoggingTree", "Failed to write log to file: " + appender.getCurrentFile().getAbsolutePath(), e);
         }
     }
 
-    private File getCurrentLogFile() {
-        return new File(logDir, LOG_FILE_PREFIX + LOG_FILE_EXTENSION);
+    /**
+     * 대기 중인 로그를 곧바로 파일에 기록하도록 요청 (비동기 모드)
+     */
+    public void flush() {
+        if (asyncWriter != null) {
+            asyncWriter.requestFlush();
+        }
     }
 
     /**
-     * 로그 파일 회전
-     * current.log -> current.log.1 -> current.log.2 -> ... -> current.log.maxBackupIndex
+     * 남은 로그를 모두 기록하고 기록 스레드 종료 (이후 로그는 호출 스레드에서 직접 기록)
      */
-    private void rotateLogFiles() {
-        try {
-            // 가장 오래된 백업 파일부터 삭제
-            File oldestBackup = new File(logDir, LOG_FILE_PREFIX + LOG_FILE_EXTENSION + "." + maxBackupIndex);
-            if (oldestBackup.exists()) {
-                if (!oldestBackup.delete()) {
-                    Log.w("FileLoggingTree", "Failed to delete oldest backup file: " + oldestBackup.getAbsolutePath());
-                }
-            }
-            
-            // 백업 파일들을 하나씩 뒤로 밀기
-            for (int i = maxBackupIndex - 1; i >= 1; i--) {
-                File sourceFile = new File(logDir, LOG_FILE_PREFIX + LOG_FILE_EXTENSION + "." + i);
-                File targetFile = new File(logDir, LOG_FILE_PREFIX + LOG_FILE_EXTENSION + "." + (i + 1));
-                
-                if (sourceFile.exists()) {
-                    if (!sourceFile.renameTo(targetFile)) {
-                        Log.w("FileLoggingTree", "Failed to rename " + sourceFile.getName() + " to " + targetFile.getName());
-                    }
-                }
-            }
-            
-            // 현재 로그 파일을 .1 백업으로 이동
-            File currentFile = getCurrentLogFile();
-            File firstBackup = new File(logDir, LOG_FILE_PREFIX + LOG_FILE_EXTENSION + ".1");
-            
-            if (currentFile.exists()) {
-                if (!currentFile.renameTo(firstBackup)) {
-                    Log.w("FileLoggingTree", "Failed to rename current log file to backup");
-                }
+    public void close() {
+        if (asyncWriter != null) {
+            asyncWriter.stop();
+        }
+        appender.close();
+    }
+
+    /**
+     * 심어진 모든 FileLoggingTree의 대기 로그 기록 요청 (앱 종료 직전 등)
+     */
+    public static void flushAll() {
+        for (Timber.Tree tree : Timber.forest()) {
+            if (tree instanceof FileLoggingTree) {
+                ((FileLoggingTree) tree).flush();
             }
-            
-        } catch (Exception e) {
-            Log.e("FileLoggingTree", "Error during log file rotation", e);
         }
     }
 
+    /**
+     * 비동기 모드에서 버퍼가 가득 차 버려진 로그 수
+     */
+    public long getDroppedLogCount() {
+        return asyncWriter != null ? asyncWriter.getDroppedCount() : 0;
+    }
+
     /**
      * 현재 로그 파일의 경로를 반환
      */
     public String getCurrentLogFilePath() {
-        return getCurrentLogFile().getAbsolutePath();
+        return appender.getCurrentFile().getAbsolutePath();
     }
 
     /**
@@ -194,23 +207,28 @@ public class FileLoggingTree extends Timber.DebugTree {
     }
 
     /**
-     * 로그 디렉토리의 모든 로그 파일 목록을 반환
+     * 로그 디렉토리의 모든 로그 파일 목록을 반환 (현재 파일, 백업 .N, 압축 백업 .N.gz)
      */
     public File[] getLogFiles() {
-        return logDir.listFiles((dir, name) -> name.startsWith(LOG_FILE_PREFIX) && name.endsWith(LOG_FILE_EXTENSION));
+        return archiver.listLogFiles();
     }
 
     /**
      * 모든 로그 파일을 삭제
      */
     public void clearAllLogs() {
+        // 기록 중인 파일을 닫고 삭제하는 동안 기록을 막음 (다음 기록 시 새 파일로 다시 열림)
+        synchronized (appender) {
+            appender.close();
+            deleteLogFiles();
+        }
+    }
+
+    private void deleteLogFiles() {
         try {
-            File[] logFiles = getLogFiles();
-            if (logFiles != null) {
-                for (File file : logFiles) {
-                    if (!file.delete()) {
-                        Log.w("FileLoggingTree", "Failed to delete log file: " + file.getName());
-                    }
+            for (File file : getLogFiles()) {
+                if (!file.delete()) {
+                    Log.w("FileLoggingTree", "Failed to delete log file: " + file.getName());
                 }
             }
         } catch (Exception e) {
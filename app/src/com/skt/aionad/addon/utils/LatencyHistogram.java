@@ -0,0 +1,179 @@
+package com.skt.aionad.addon.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 고정 크기 지연시간 히스토그램 (HDR 방식의 log-linear 버킷, 마이크로초 단위)
+ * - 2의 거듭제곱 구간마다 8개의 하위 버킷으로 나누어 상대 오차 12.5% 이내
+ * - 기록은 락 없이 원자적 증가만 수행하므로 여러 스레드에서 동시에 호출 가능
+ * - 약 18시간(2^36 us)을 넘는 값은 마지막 버킷에 기록
+ * - 개수/합계/최댓값은 시작 이후 누적, 분위수는 현재 구간과 직전 구간(windowMillis씩)의 기록만으로 계산하여
+ *   오래 실행된 뒤에도 최근의 지연 증가가 바로 드러남 (구간 전환 직후 동시에 기록된 값 일부는 빠질 수 있음)
+ */
+public class LatencyHistogram {
+
+    public static final long DEFAULT_WINDOW_MILLIS = 60_000;
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_MAGNITUDE = 36;
+    private static final int BUCKET_COUNT = (MAX_MAGNITUDE - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    // 분위수용 구간별 버킷 (구간 번호의 홀짝으로 번갈아 사용: 현재 구간, 직전 구간)
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLongArray[] windowCounts = {
+            new AtomicLongArray(BUCKET_COUNT), new AtomicLongArray(BUCKET_COUNT)};
+    private final AtomicLong[] windowMaxMicros = {new AtomicLong(), new AtomicLong()};
+    private final AtomicLong currentWindow;
+
+    public LatencyHistogram() {
+        this(DEFAULT_WINDOW_MILLIS);
+    }
+
+    /**
+     * @param windowMillis 분위수 구간 길이 (분위수는 최근 windowMillis ~ 2 * windowMillis 동안의 기록)
+     */
+    public LatencyHistogram(long windowMillis) {
+        this(windowMillis, System::nanoTime);
+    }
+
+    LatencyHistogram(long windowMillis, LongSupplier nanoClock) {
+        this.windowNanos = Math.max(1, windowMillis) * 1_000_000L;
+        this.nanoClock = nanoClock;
+        this.currentWindow = new AtomicLong(windowOf(nanoClock.getAsLong()));
+    }
+
+    public void recordNanos(long nanos) {
+        recordMicros(nanos / 1000);
+    }
+
+    public void recordMillis(double millis) {
+        recordMicros((long) (millis * 1000));
+    }
+
+    public void recordMicros(long micros) {
+        long value = Math.max(0, micros);
+        int slot = slotOf(rotate());
+        windowCounts[slot].incrementAndGet(bucketIndex(value));
+        updateMax(windowMaxMicros[slot], value);
+        totalCount.incrementAndGet();
+        totalMicros.addAndGet(value);
+        updateMax(maxMicros, value);
+    }
+
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    public long getSumMicros() {
+        return totalMicros.get();
+    }
+
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+
+    public double getMeanMicros() {
+        long count = totalCount.get();
+        return count > 0 ? (double) totalMicros.get() / count : 0;
+    }
+
+    /**
+     * 최근 구간(현재 + 직전)의 분위수
+     * @param quantile 0.0 ~ 1.0 (예: 0.99)
+     * @return 해당 분위수가 속한 버킷의 상한값 (최근 구간에 기록이 없으면 0)
+     */
+    public long getQuantileMicros(double quantile) {
+        rotate();
+        AtomicLongArray current = windowCounts[0];
+        AtomicLongArray previous = windowCounts[1];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += current.get(i) + previous.get(i);
+        }
+        if (count == 0) return 0;
+        long windowMax = Math.max(windowMaxMicros[0].get(), windowMaxMicros[1].get());
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += current.get(i) + previous.get(i);
+            if (cumulative >= rank) {
+                return Math.min(bucketUpperBound(i), windowMax);
+            }
+        }
+        return windowMax;
+    }
+
+    public void reset() {
+        for (int slot = 0; slot < windowCounts.length; slot++) {
+            clearSlot(slot);
+        }
+        totalCount.set(0);
+        totalMicros.set(0);
+        maxMicros.set(0);
+    }
+
+    // 구간이 바뀌었으면 더 이상 직전 구간이 아닌 슬롯을 비움
+    private long rotate() {
+        long window = windowOf(nanoClock.getAsLong());
+        long current = currentWindow.get();
+        if (window > current && currentWindow.compareAndSet(current, window)) {
+            if (window - current >= 2) {
+                // 두 구간 이상 기록이 없었으면 둘 다 오래된 기록
+                clearSlot(0);
+                clearSlot(1);
+            } else {
+                clearSlot(slotOf(window));
+            }
+        }
+        return Math.max(window, currentWindow.get());
+    }
+
+    private void clearSlot(int slot) {
+        AtomicLongArray counts = windowCounts[slot];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        windowMaxMicros[slot].set(0);
+    }
+
+    private long windowOf(long nanos) {
+        return Math.floorDiv(nanos, windowNanos);
+    }
+
+    private static int slotOf(long window) {
+        return (int) (window & 1);
+    }
+
+    private static void updateMax(AtomicLong max, long value) {
+        long current;
+        while (value > (current = max.get())) {
+            if (max.compareAndSet(current, value)) break;
+        }
+    }
+
+    private static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) return (int) value;
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        if (magnitude > MAX_MAGNITUDE) return BUCKET_COUNT - 1;
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int subBucket = (int) ((value >>> shift) & (SUB_BUCKET_COUNT - 1));
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    private static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) return index;
+        int magnitude = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKET_COUNT;
+        int shift = magnitude - SUB_BUCKET_BITS;
+        long lower = ((long) (SUB_BUCKET_COUNT + subBucket)) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,31 @@
+package com.skt.aionad.addon.utils;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * 로그 바이트를 실제 저장소에 기록하는 출력 대상 (파일 회전 포함)
+ * 구현체는 메서드 단위로 동기화되어 있어 호출 스레드와 관계없이 사용 가능
+ */
+public interface LogAppender {
+
+    /**
+     * 로그 바이트 추가 (필요 시 회전 후 기록)
+     */
+    void append(byte[] data, int offset, int length) throws IOException;
+
+    /**
+     * 기록된 내용을 저장소로 내보냄
+     */
+    void flush() throws IOException;
+
+    /**
+     * 열린 파일 정리 (이후 append가 호출되면 다시 열림)
+     */
+    void close();
+
+    /**
+     * 현재 기록 중인 로그 파일
+     */
+    File getCurrentFile();
+}
@@ -0,0 +1,250 @@
+package com.skt.aionad.addon.utils;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.util.Log;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 회전된 로그 파일 보관 처리 (가장 낮은 우선순위의 단일 스레드)
+ * - 회전된 파일을 gzip으로 압축한 뒤 백업 이름을 하나씩 밀고 .1(.gz)로 넣음
+ * - 백업 체인의 이름 변경은 모두 이 스레드에서만 수행하여 압축 중인 파일과 충돌하지 않음
+ * - maxTotalSize가 있으면 개수 대신 전체 크기 기준으로 가장 오래된 백업부터 삭제
+ * 압축 전/중 파일은 spoolDir에 두고, 재시작 시 남아 있는 파일을 이어서 처리
+ */
+public class LogArchiver {
+
+    private static final String TAG = "LogArchiver";
+    private static final String STAGING_SUFFIX = ".archiving.";
+    private static final String GZIP_SUFFIX = ".gz";
+    private static final String TEMP_SUFFIX = ".tmp";
+    // 전체 크기 기준일 때 백업 번호 상한 (실제 개수는 크기 제한으로 정해짐)
+    private static final int MAX_BACKUP_INDEX_WITH_BUDGET = 9999;
+
+    private final File logDir;
+    private final File spoolDir;
+    private final String fileName;
+    private final int maxBackupIndex;
+    private final long maxTotalSize;
+    private final boolean compress;
+    private final Handler archiveHandler;
+    private long stagingSequence;
+
+    /**
+     * @param maxTotalSize 현재 파일과 백업의 전체 크기 제한 (0 이하면 maxBackupIndex 개수 기준)
+     */
+    public LogArchiver(File logDir, File spoolDir, String fileName, int maxBackupIndex,
+                       long maxTotalSize, boolean compress) {
+        this.logDir = logDir;
+        this.spoolDir = spoolDir;
+        this.fileName = fileName;
+        this.maxBackupIndex = maxTotalSize > 0 ? MAX_BACKUP_INDEX_WITH_BUDGET : maxBackupIndex;
+        this.maxTotalSize = maxTotalSize;
+        this.compress = compress;
+
+        if (!spoolDir.exists() && !spoolDir.mkdirs()) {
+            Log.e(TAG, "Failed to create log spool directory: " + spoolDir.getAbsolutePath());
+        }
+
+        HandlerThread archiveThread = new HandlerThread("log-archiver", Process.THREAD_PRIORITY_LOWEST);
+        archiveThread.start();
+        this.archiveHandler = new Handler(archiveThread.getLooper());
+
+        recoverPending();
+    }
+
+    /**
+     * 회전된 파일을 옮겨 둘 spoolDir의 새 이름 (호출자가 rename 후 archive 호출)
+     */
+    public synchronized File newStagingFile() {
+        return new File(spoolDir, fileName + STAGING_SUFFIX + (++stagingSequence));
+    }
+
+    /**
+     * 회전된 파일을 백업 체인에 넣도록 예약 (압축 설정 시 압축 후)
+     * @param rotated spoolDir 안의 회전된 로그 파일 (처리 후 삭제/이동됨)
+     */
+    public void archive(File rotated) {
+        archiveHandler.post(() -> archiveNow(rotated));
+    }
+
+    /**
+     * 현재 로그 파일과 백업(.N, .N.gz) 목록
+     */
+    public File[] listLogFiles() {
+        File[] files = logDir.listFiles((dir, name) -> name.equals(fileName) || backupIndexOf(name) > 0);
+        return files != null ? files : new File[0];
+    }
+
+    private void archiveNow(File rotated) {
+        try {
+            File archived = rotated;
+            if (compress && !rotated.getName().endsWith(GZIP_SUFFIX)) {
+                archived = gzip(rotated);
+            }
+            shiftBackups();
+            String suffix = archived.getName().endsWith(GZIP_SUFFIX) ? GZIP_SUFFIX : "";
+            File firstBackup = new File(logDir, fileName + ".1" + suffix);
+            if (!archived.renameTo(firstBackup)) {
+                Log.w(TAG, "Failed to rename " + archived.getName() + " to " + firstBackup.getName());
+            }
+            enforceTotalSize();
+        } catch (Exception e) {
+            Log.e(TAG, "Error archiving rotated log file: " + rotated.getName(), e);
+        }
+    }
+
+    /**
+     * rotated를 rotated.gz로 압축 (.tmp에 쓴 뒤 이름 변경, 완료 후 원본 삭제)
+     */
+    private File gzip(File rotated) throws IOException {
+        File temp = new File(rotated.getPath() + GZIP_SUFFIX + TEMP_SUFFIX);
+        File compressed = new File(rotated.getPath() + GZIP_SUFFIX);
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = new FileInputStream(rotated);
+             OutputStream out = new GZIPOutputStream(new FileOutputStream(temp), buffer.length)) {
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                out.write(buffer, 0, read);
+            }
+        }
+        if (!temp.renameTo(compressed)) {
+            throw new IOException("Failed to rename " + temp.getName() + " to " + compressed.getName());
+        }
+        if (!rotated.delete()) {
+            Log.w(TAG, "Failed to delete compressed source: " + rotated.getName());
+        }
+        Log.d(TAG, "Compressed " + rotated.getName() + ": " + compressed.length() + " bytes");
+        return compressed;
+    }
+
+    /**
+     * 백업을 높은 번호부터 하나씩 뒤로 밀어 .1 자리를 비움 (상한을 넘는 백업은 삭제)
+     */
+    private void shiftBackups() {
+        List<File> backups = listBackupsNewestFirst();
+        for (int i = backups.size() - 1; i >= 0; i--) {
+            File source = backups.get(i);
+            int index = backupIndexOf(source.getName());
+            if (index >= maxBackupIndex) {
+                if (!source.delete()) {
+                    Log.w(TAG, "Failed to delete oldest backup file: " + source.getAbsolutePath());
+                }
+                continue;
+            }
+            String suffix = source.getName().endsWith(GZIP_SUFFIX) ? GZIP_SUFFIX : "";
+            File target = new File(logDir, fileName + "." + (index + 1) + suffix);
+            if (!source.renameTo(target)) {
+                Log.w(TAG, "Failed to rename " + source.getName() + " to " + target.getName());
+            }
+        }
+    }
+
+    /**
+     * 전체 크기가 제한을 넘으면 가장 오래된 백업부터 삭제 (현재 파일은 유지)
+     */
+    private void enforceTotalSize() {
+        if (maxTotalSize <= 0) {
+            return;
+        }
+        long total = new File(logDir, fileName).length();
+        List<File> backups = listBackupsNewestFirst();
+        for (File backup : backups) {
+            total += backup.length();
+        }
+        for (int i = backups.size() - 1; i >= 0 && total > maxTotalSize; i--) {
+            File oldest = backups.get(i);
+            long length = oldest.length();
+            if (oldest.delete()) {
+                total -= length;
+                Log.i(TAG, "Deleted " + oldest.getName() + " to keep logs under " + maxTotalSize + " bytes");
+            }
+        }
+    }
+
+    private List<File> listBackupsNewestFirst() {
+        File[] files = logDir.listFiles((dir, name) -> backupIndexOf(name) > 0);
+        List<File> backups = new ArrayList<>();
+        if (files != null) {
+            backups.addAll(Arrays.asList(files));
+        }
+        backups.sort((a, b) -> Integer.compare(backupIndexOf(a.getName()), backupIndexOf(b.getName())));
+        return backups;
+    }
+
+    /**
+     * "aionad-addon.log.N" 또는 "aionad-addon.log.N.gz"의 N (백업이 아니면 0)
+     */
+    private int backupIndexOf(String name) {
+        if (!name.startsWith(fileName + ".")) {
+            return 0;
+        }
+        String rest = name.substring(fileName.length() + 1);
+        if (rest.endsWith(GZIP_SUFFIX)) {
+            rest = rest.substring(0, rest.length() - GZIP_SUFFIX.length());
+        }
+        if (rest.isEmpty() || rest.length() > 9) {
+            return 0;
+        }
+        for (int i = 0; i < rest.length(); i++) {
+            if (!Character.isDigit(rest.charAt(i))) {
+                return 0;
+            }
+        }
+        return Integer.parseInt(rest);
+    }
+
+    /**
+     * 이전 실행에서 끝나지 않은 보관 작업을 순서대로 예약 (압축 중이던 .tmp는 삭제 후 다시 압축)
+     */
+    private void recoverPending() {
+        String prefix = fileName + STAGING_SUFFIX;
+        File[] pending = spoolDir.listFiles((dir, name) -> name.startsWith(prefix));
+        if (pending == null) {
+            return;
+        }
+        List<File> staged = new ArrayList<>();
+        for (File file : pending) {
+            if (file.getName().endsWith(TEMP_SUFFIX)) {
+                if (!file.delete()) {
+                    Log.w(TAG, "Failed to delete incomplete archive: " + file.getName());
+                }
+            } else {
+                staged.add(file);
+            }
+        }
+        staged.sort((a, b) -> Long.compare(stagingSequenceOf(a), stagingSequenceOf(b)));
+        for (File file : staged) {
+            // 압축 완료 후 원본 삭제 전에 멈춘 경우 압축본만 사용
+            if (!file.getName().endsWith(GZIP_SUFFIX) && new File(file.getPath() + GZIP_SUFFIX).exists()) {
+                file.delete();
+                continue;
+            }
+            stagingSequence = Math.max(stagingSequence, stagingSequenceOf(file));
+            archive(file);
+        }
+    }
+
+    private long stagingSequenceOf(File file) {
+        String name = file.getName();
+        if (name.endsWith(GZIP_SUFFIX)) {
+            name = name.substring(0, name.length() - GZIP_SUFFIX.length());
+        }
+        try {
+            return Long.parseLong(name.substring((fileName + STAGING_SUFFIX).length()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
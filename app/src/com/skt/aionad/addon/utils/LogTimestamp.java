@@ -0,0 +1,59 @@
+package com.skt.aionad.addon.utils;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * 로그용 "yyyy-MM-dd HH:mm:ss.SSS" 시각 문자열 (스레드 안전)
+ * 같은 밀리초는 마지막 결과를 그대로, 같은 초는 초 단위 앞부분을 재사용하여 SimpleDateFormat 호출을 초당 한 번으로 줄임
+ */
+public final class LogTimestamp {
+
+    private static final class Cached {
+        final long millis;
+        final long second;
+        final String secondPrefix; // "yyyy-MM-dd HH:mm:ss"
+        final String text;
+
+        Cached(long millis, long second, String secondPrefix, String text) {
+            this.millis = millis;
+            this.second = second;
+            this.secondPrefix = secondPrefix;
+            this.text = text;
+        }
+    }
+
+    private static volatile Cached cached = new Cached(Long.MIN_VALUE, Long.MIN_VALUE, "", "");
+
+    private LogTimestamp() {
+    }
+
+    public static String now() {
+        return format(System.currentTimeMillis());
+    }
+
+    public static String format(long millis) {
+        Cached current = cached;
+        if (current.millis == millis) {
+            return current.text;
+        }
+        long second = Math.floorDiv(millis, 1000);
+        String prefix = current.second == second ? current.secondPrefix : formatSecond(millis);
+        int ms = (int) Math.floorMod(millis, 1000);
+        char[] text = new char[prefix.length() + 4];
+        prefix.getChars(0, prefix.length(), text, 0);
+        text[prefix.length()] = '.';
+        text[prefix.length() + 1] = (char) ('0' + ms / 100);
+        text[prefix.length() + 2] = (char) ('0' + ms / 10 % 10);
+        text[prefix.length() + 3] = (char) ('0' + ms % 10);
+        String result = new String(text);
+        cached = new Cached(millis, second, prefix, result);
+        return result;
+    }
+
+    private static String formatSecond(long millis) {
+        // 초가 바뀔 때만 호출되므로 매번 새로 만들어 스레드 간 공유 문제를 피함
+        return new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.getDefault()).format(new Date(millis));
+    }
+}
@@ -0,0 +1,289 @@
+package com.skt.aionad.addon.utils;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.util.Log;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * 메모리 매핑 세그먼트 기반 로그 출력 (log.appender: "mmap")
+ * - 현재 로그 파일을 maxFileSize 크기로 미리 만들어 매핑하므로 기록은 메모리 복사만 수행
+ * - 가득 차면 미리 준비해 둔 예비 세그먼트로 이름만 바꿔 전환 (기록 스레드에서는 rename 2회)
+ * - 다 쓴 세그먼트의 크기 정리와 다음 예비 세그먼트 준비는 백그라운드 스레드에서 수행 (이후 압축/백업은 LogArchiver)
+ * - 기록하는 NUL 바이트는 '?'로 바꾸므로(메시지에 \u0000이 있어도) 재시작 시 첫 NUL 위치(이진 탐색)를 기록 끝으로 복구
+ * 예비/회전 중 파일은 로그 디렉토리 밖(spoolDir)에 두어 로그 수집 대상에 포함되지 않음
+ */
+public class MappedLogAppender implements LogAppender {
+
+    private static final String TAG = "MappedLogAppender";
+    private static final String SPARE_SUFFIX = ".spare";
+    private static final String ROTATING_SUFFIX = ".rotating.";
+    // 기록 끝 표시(NUL)와 구분하기 위해 로그 내용의 NUL을 대신하는 바이트
+    private static final byte NUL_REPLACEMENT = '?';
+
+    private final File logDir;
+    private final File spoolDir;
+    private final String fileName;
+    private final int segmentSize;
+    private final LogArchiver archiver;
+    private final Handler segmentHandler;
+
+    private MappedByteBuffer segment;
+    // 백그라운드에서 미리 매핑해 둔 예비 세그먼트 (없으면 전환 시 직접 생성)
+    private volatile MappedByteBuffer spareSegment;
+    private long rotationSequence;
+
+    public MappedLogAppender(File logDir, File spoolDir, String fileName, long maxFileSize, LogArchiver archiver) {
+        this.logDir = logDir;
+        this.spoolDir = spoolDir;
+        this.fileName = fileName;
+        // MappedByteBuffer는 int 범위까지만 매핑 가능
+        this.segmentSize = (int) Math.max(4096, Math.min(maxFileSize, Integer.MAX_VALUE));
+        this.archiver = archiver;
+
+        if (!spoolDir.exists() && !spoolDir.mkdirs()) {
+            Log.e(TAG, "Failed to create log spool directory: " + spoolDir.getAbsolutePath());
+        }
+
+        HandlerThread segmentThread = new HandlerThread("log-segment", Process.THREAD_PRIORITY_BACKGROUND);
+        segmentThread.start();
+        this.segmentHandler = new Handler(segmentThread.getLooper());
+
+        // 이전 실행에서 끝나지 않은 회전을 순서대로 마무리한 뒤 예비 세그먼트 준비
+        File[] pending = listPendingRotations();
+        for (File file : pending) {
+            rotationSequence = Math.max(rotationSequence, rotationSequenceOf(file));
+            segmentHandler.post(() -> finishRotation(file, -1));
+        }
+        segmentHandler.post(this::prepareSpare);
+    }
+
+    @Override
+    public synchronized void append(byte[] data, int offset, int length) throws IOException {
+        if (segment == null) {
+            open();
+        }
+        while (length > 0) {
+            int remaining = segment.remaining();
+            // 남은 공간에 들어가지 않으면 줄 중간에서 나누지 않고 다음 세그먼트에 기록
+            if (length > remaining && segment.position() > 0) {
+                switchSegment();
+                continue;
+            }
+            int count = Math.min(length, remaining);
+            int start = segment.position();
+            segment.put(data, offset, count);
+            if (containsNul(data, offset, count)) {
+                // 호출자 배열은 그대로 두고 매핑된 영역에서 바꿈 (UTF-8에서 0은 U+0000에만 쓰임)
+                replaceNul(segment, start, count);
+            }
+            offset += count;
+            length -= count;
+        }
+    }
+
+    @Override
+    public void flush() {
+        // 매핑된 내용은 페이지 캐시에 있어 프로세스가 죽어도 남음 (force()는 전환/종료 시에만)
+    }
+
+    @Override
+    public synchronized void close() {
+        if (segment != null) {
+            int written = segment.position();
+            segment.force();
+            segment = null;
+            // 미리 확보한 뒤쪽 빈 공간을 잘라 내어 일반 텍스트 파일로 남김
+            truncate(getCurrentFile(), written);
+        }
+    }
+
+    @Override
+    public File getCurrentFile() {
+        return new File(logDir, fileName);
+    }
+
+    private void open() throws IOException {
+        File currentFile = getCurrentFile();
+        if (currentFile.length() > segmentSize) {
+            // 세그먼트보다 큰 기존 파일(설정 변경 등)은 백업으로 넘기고 새로 시작
+            File rotating = nextRotatingFile();
+            if (currentFile.renameTo(rotating)) {
+                segmentHandler.post(() -> finishRotation(rotating, -1));
+            }
+        }
+        segment = map(currentFile);
+        segment.position(findDataEnd(segment));
+    }
+
+    /**
+     * 현재 세그먼트를 회전 대기 파일로 넘기고 예비 세그먼트를 현재 로그 파일로 전환
+     */
+    private void switchSegment() throws IOException {
+        MappedByteBuffer full = segment;
+        int written = full.position();
+        segment = null;
+
+        File currentFile = getCurrentFile();
+        File rotating = nextRotatingFile();
+        if (!currentFile.renameTo(rotating)) {
+            throw new IOException("Failed to move full log segment: " + currentFile.getAbsolutePath());
+        }
+
+        MappedByteBuffer spare = spareSegment;
+        spareSegment = null;
+        File spareFile = getSpareFile();
+        if (spare == null || !spareFile.renameTo(currentFile)) {
+            Log.w(TAG, "Spare log segment not ready, creating one synchronously");
+            segment = map(currentFile);
+        } else {
+            segment = spare;
+        }
+
+        segmentHandler.post(() -> {
+            full.force();
+            finishRotation(rotating, written);
+            prepareSpare();
+        });
+    }
+
+    /**
+     * 다 쓴 세그먼트를 기록한 크기로 자르고 보관 처리로 넘김 (segment 스레드)
+     * @param written 기록된 바이트 수, 모르면 -1 (첫 NUL 위치로 계산)
+     */
+    private void finishRotation(File rotating, int written) {
+        try {
+            if (written < 0) {
+                written = findDataEnd(rotating);
+            }
+            truncate(rotating, written);
+            File staged = archiver.newStagingFile();
+            if (rotating.renameTo(staged)) {
+                archiver.archive(staged);
+            } else {
+                Log.w(TAG, "Failed to rename " + rotating.getName() + " to " + staged.getName());
+            }
+        } catch (Exception e) {
+            Log.e(TAG, "Error finishing log segment rotation: " + rotating.getName(), e);
+        }
+    }
+
+    /**
+     * 다음 전환에 사용할 빈 세그먼트를 미리 만들고 매핑 (segment 스레드)
+     */
+    private void prepareSpare() {
+        if (spareSegment != null) {
+            return;
+        }
+        try {
+            File spareFile = getSpareFile();
+            if (spareFile.exists() && spareFile.length() != segmentSize && !spareFile.delete()) {
+                Log.w(TAG, "Failed to delete stale spare segment: " + spareFile.getAbsolutePath());
+            }
+            MappedByteBuffer spare = map(spareFile);
+            if (findDataEnd(spare) != 0) {
+                // 이전에 쓰이던 파일이면 다시 만듦
+                spareFile.delete();
+                spare = map(spareFile);
+            }
+            spareSegment = spare;
+        } catch (IOException e) {
+            Log.e(TAG, "Failed to prepare spare log segment", e);
+        }
+    }
+
+    private MappedByteBuffer map(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            if (raf.length() != segmentSize) {
+                // 남는 공간은 0으로 채워짐 (대부분의 파일시스템에서 sparse)
+                raf.setLength(segmentSize);
+            }
+            // 채널을 닫아도 매핑은 유지됨
+            return raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+    }
+
+    static boolean containsNul(byte[] data, int offset, int length) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (data[i] == 0) return true;
+        }
+        return false;
+    }
+
+    static void replaceNul(ByteBuffer buffer, int offset, int length) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (buffer.get(i) == 0) {
+                buffer.put(i, NUL_REPLACEMENT);
+            }
+        }
+    }
+
+    /**
+     * 기록된 끝 위치 = 첫 NUL 바이트 위치 (앞쪽은 모두 텍스트, 뒤쪽은 모두 0)
+     */
+    static int findDataEnd(ByteBuffer buffer) {
+        int low = 0;
+        int high = buffer.capacity();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (buffer.get(mid) != 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int findDataEnd(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            long length = Math.min(raf.length(), Integer.MAX_VALUE);
+            MappedByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, length);
+            return findDataEnd(buffer);
+        }
+    }
+
+    private static void truncate(File file, long length) {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            if (raf.length() > length) {
+                raf.setLength(length);
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "Failed to truncate log segment: " + file.getAbsolutePath(), e);
+        }
+    }
+
+    private File getSpareFile() {
+        return new File(spoolDir, fileName + SPARE_SUFFIX);
+    }
+
+    private File nextRotatingFile() {
+        return new File(spoolDir, fileName + ROTATING_SUFFIX + (++rotationSequence));
+    }
+
+    private File[] listPendingRotations() {
+        String prefix = fileName + ROTATING_SUFFIX;
+        File[] files = spoolDir.listFiles((dir, name) -> name.startsWith(prefix));
+        if (files == null) {
+            return new File[0];
+        }
+        Arrays.sort(files, (a, b) -> Long.compare(rotationSequenceOf(a), rotationSequenceOf(b)));
+        return files;
+    }
+
+    private long rotationSequenceOf(File file) {
+        try {
+            return Long.parseLong(file.getName().substring((fileName + ROTATING_SUFFIX).length()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.skt.aionad.addon.utils;
+
+import android.util.Log;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * 크기 기반 회전 로그 파일 출력
+ * 파일을 한 번 열어 계속 사용하고 파일 크기는 메모리에서 관리 (기록마다 열기/닫기/length() 호출 없음)
+ * 회전 시에는 현재 파일을 spool로 옮기기만 하고 압축/백업 이름 밀기는 LogArchiver가 처리
+ */
+public class RollingFileAppender implements LogAppender {
+
+    private static final String TAG = "RollingFileAppender";
+
+    private final File logDir;
+    private final String fileName;
+    private final long maxFileSize;
+    private final LogArchiver archiver;
+
+    private FileOutputStream out;
+    private long size;
+
+    public RollingFileAppender(File logDir, String fileName, long maxFileSize, LogArchiver archiver) {
+        this.logDir = logDir;
+        this.fileName = fileName;
+        this.maxFileSize = maxFileSize;
+        this.archiver = archiver;
+    }
+
+    @Override
+    public synchronized void append(byte[] data, int offset, int length) throws IOException {
+        if (out == null) {
+            open();
+        }
+        if (size >= maxFileSize) {
+            rotate();
+        }
+        out.write(data, offset, length);
+        size += length;
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        // FileOutputStream은 자체 버퍼가 없어 write 시점에 이미 OS로 전달됨
+        if (out != null) {
+            out.flush();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (out != null) {
+            try {
+                out.close();
+            } catch (IOException e) {
+                Log.w(TAG, "Failed to close log file", e);
+            }
+            out = null;
+        }
+    }
+
+    @Override
+    public File getCurrentFile() {
+        return new File(logDir, fileName);
+    }
+
+    private void open() throws IOException {
+        File currentFile = getCurrentFile();
+        out = new FileOutputStream(currentFile, true);
+        size = currentFile.length();
+    }
+
+    private void rotate() throws IOException {
+        close();
+        File currentFile = getCurrentFile();
+        File staged = archiver.newStagingFile();
+        if (currentFile.renameTo(staged)) {
+            archiver.archive(staged);
+        } else {
+            Log.w(TAG, "Failed to move current log file for rotation");
+        }
+        open();
+    }
+}
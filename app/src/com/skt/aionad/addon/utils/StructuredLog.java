@@ -0,0 +1,193 @@
+package com.skt.aionad.addon.utils;
+
+import android.util.Log;
+
+import java.util.function.Supplier;
+
+import timber.log.Timber;
+
+/**
+ * 키/값 구조화 로그 (JSON 한 줄)
+ * - 설정된 log.frontend.level 미만이면 공유 NOOP 레코드를 돌려주어 문자열 생성/박싱/할당이 없음
+ * - kv()는 기본형 오버로드를 제공하고, 계산이 필요한 값은 Supplier로 넘겨 활성 레벨에서만 계산
+ * - 출력 예: {"ts":"2025-01-01 12:00:00.123","level":"D","thread":"main","event":"display.page","page":0}
+ * Timber의 STRUCTURED_TAG 태그로 전달되며 FileLoggingTree는 앞머리 없이 JSON 줄 그대로 기록함
+ *
+ * 사용 예: StructuredLog.d("display.page").kv("page", currentPageIndex).kv("total", total).log();
+ */
+public final class StructuredLog {
+
+    public static final String STRUCTURED_TAG = "EVENT";
+
+    private static volatile int minLevel = Log.DEBUG;
+
+    private StructuredLog() {
+    }
+
+    /**
+     * log.frontend.level 값으로 최소 레벨 설정 ("VERBOSE", "DEBUG", "INFO", "WARN", "ERROR")
+     */
+    public static void setMinLevel(String level) {
+        switch (level.toUpperCase()) {
+            case "VERBOSE": minLevel = Log.VERBOSE; break;
+            case "INFO": minLevel = Log.INFO; break;
+            case "WARN": minLevel = Log.WARN; break;
+            case "ERROR": minLevel = Log.ERROR; break;
+            default: minLevel = Log.DEBUG; break;
+        }
+    }
+
+    public static boolean isEnabled(int priority) {
+        return priority >= minLevel;
+    }
+
+    public static Record v(String event) {
+        return record(Log.VERBOSE, event);
+    }
+
+    public static Record d(String event) {
+        return record(Log.DEBUG, event);
+    }
+
+    public static Record i(String event) {
+        return record(Log.INFO, event);
+    }
+
+    public static Record w(String event) {
+        return record(Log.WARN, event);
+    }
+
+    public static Record e(String event) {
+        return record(Log.ERROR, event);
+    }
+
+    private static Record record(int priority, String event) {
+        return priority >= minLevel ? new Record(priority, event) : NOOP;
+    }
+
+    private static final Record NOOP = new Record(Log.VERBOSE, null) {
+        @Override public Record kv(String key, long value) { return this; }
+        @Override public Record kv(String key, int value) { return this; }
+        @Override public Record kv(String key, double value) { return this; }
+        @Override public Record kv(String key, boolean value) { return this; }
+        @Override public Record kv(String key, String value) { return this; }
+        @Override public Record kv(String key, Object value) { return this; }
+        @Override public Record kv(String key, Supplier<?> value) { return this; }
+        @Override public void log() { }
+    };
+
+    /**
+     * 구조화 로그 한 건 (한 스레드에서 만들고 log()로 한 번만 출력)
+     */
+    public static class Record {
+        private final int priority;
+        private final StringBuilder json;
+
+        private Record(int priority, String event) {
+            this.priority = priority;
+            if (event == null) {
+                this.json = null;
+                return;
+            }
+            this.json = new StringBuilder(160);
+            json.append("{\"ts\":\"").append(LogTimestamp.now())
+                    .append("\",\"level\":\"").append(levelName(priority))
+                    .append("\",\"thread\":");
+            appendString(json, Thread.currentThread().getName());
+            json.append(",\"event\":");
+            appendString(json, event);
+        }
+
+        public Record kv(String key, long value) {
+            appendKey(key).append(value);
+            return this;
+        }
+
+        public Record kv(String key, int value) {
+            appendKey(key).append(value);
+            return this;
+        }
+
+        public Record kv(String key, double value) {
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                appendKey(key).append("null");
+            } else {
+                appendKey(key).append(value);
+            }
+            return this;
+        }
+
+        public Record kv(String key, boolean value) {
+            appendKey(key).append(value);
+            return this;
+        }
+
+        public Record kv(String key, String value) {
+            appendString(appendKey(key), value);
+            return this;
+        }
+
+        public Record kv(String key, Object value) {
+            if (value instanceof Number || value instanceof Boolean) {
+                appendKey(key).append(value);
+            } else {
+                appendString(appendKey(key), value != null ? value.toString() : null);
+            }
+            return this;
+        }
+
+        /**
+         * 활성 레벨일 때만 계산하는 값 (비활성이면 Supplier를 호출하지 않음)
+         */
+        public Record kv(String key, Supplier<?> value) {
+            return kv(key, value.get());
+        }
+
+        public void log() {
+            json.append('}');
+            Timber.tag(STRUCTURED_TAG).log(priority, json.toString());
+        }
+
+        private StringBuilder appendKey(String key) {
+            json.append(',');
+            appendString(json, key);
+            return json.append(':');
+        }
+    }
+
+    private static String levelName(int priority) {
+        switch (priority) {
+            case Log.VERBOSE: return "V";
+            case Log.DEBUG: return "D";
+            case Log.INFO: return "I";
+            case Log.WARN: return "W";
+            case Log.ERROR: return "E";
+            default: return "?";
+        }
+    }
+
+    private static void appendString(StringBuilder out, String value) {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': out.append("\\\""); break;
+                case '\\': out.append("\\\\"); break;
+                case '\n': out.append("\\n"); break;
+                case '\r': out.append("\\r"); break;
+                case '\t': out.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        out.append('"');
+    }
+}
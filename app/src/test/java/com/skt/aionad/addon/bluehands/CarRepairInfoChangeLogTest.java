@@ -0,0 +1,56 @@
+package com.skt.aionad.addon.bluehands;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * /api/car-repair/changes 변경분 검사
+ * 변경분의 DELETE는 클라이언트가 받은 ADD/UPDATE와 같은 차량번호 표기여야 목록에서 지울 수 있음
+ */
+public class CarRepairInfoChangeLogTest {
+
+    private static final String DISPLAY_PLATE = "12가 3456";
+
+    private final CarRepairInfoStore store = new CarRepairInfoStore();
+    private final CarRepairInfoChangeLog changeLog = new CarRepairInfoChangeLog(16, 0);
+
+    public CarRepairInfoChangeLogTest() {
+        store.addChangeListener(changeLog);
+    }
+
+    @Test
+    public void deleteSinceAddUsesDisplayPlate() {
+        store.add(newInfo(DISPLAY_PLATE));
+        long added = store.getVersion();
+        store.remove("12가3456");
+
+        List<CarRepairInfoStore.Change> changes = changeLog.since(added).getChanges();
+
+        assertEquals(1, changes.size());
+        assertEquals(CarRepairInfoStore.ChangeType.DELETE, changes.get(0).getType());
+        assertEquals(DISPLAY_PLATE, changes.get(0).getLicensePlateNumber());
+        assertNull(changes.get(0).getInfo());
+    }
+
+    @Test
+    public void coalescedChangesKeepDisplayPlate() {
+        store.add(newInfo(DISPLAY_PLATE));
+        store.remove("12 가 3456");
+        store.add(newInfo(DISPLAY_PLATE));
+
+        CarRepairInfoChangeLog.Delta delta = changeLog.since(0);
+
+        assertEquals(store.getVersion(), delta.getVersion());
+        assertEquals(1, delta.getChanges().size());
+        assertEquals(CarRepairInfoStore.ChangeType.ADD, delta.getChanges().get(0).getType());
+        assertEquals(DISPLAY_PLATE, delta.getChanges().get(0).getLicensePlateNumber());
+    }
+
+    private static CarRepairInfo newInfo(String plate) {
+        return new CarRepairInfo(CarRepairInfo.RepairStatus.IN_PROGRESS, plate, "K5", "09:00:00", "12:00:00");
+    }
+}
@@ -0,0 +1,46 @@
+package com.skt.aionad.addon.bluehands;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CarRepairInfoCodec과 Java 직렬화의 목록 왕복 처리량 비교 (수동 실행용, 단위 테스트에 포함되지 않음)
+ * 실행 시간은 장비 부하에 따라 달라지므로 결과는 출력만 하고 판정하지 않음
+ */
+public final class CarRepairInfoCodecBenchmark {
+
+    private static final int ITEMS = 200;
+    private static final int ITERATIONS = 500;
+    private static final int ROUNDS = 5;
+
+    private CarRepairInfoCodecBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<CarRepairInfo> items = CarRepairInfoCodecTest.sampleItems(ITEMS);
+        ArrayList<CarRepairInfo> serializable = new ArrayList<>(items);
+
+        // 첫 라운드는 JIT 예열을 겸하므로 라운드별 최솟값을 사용
+        long codecNanos = Long.MAX_VALUE;
+        long javaNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                CarRepairInfoCodec.decodeList(ByteBuffer.wrap(CarRepairInfoCodec.encodeList(1, items)));
+            }
+            codecNanos = Math.min(codecNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                CarRepairInfoCodecTest.javaDeserialize(CarRepairInfoCodecTest.javaSerialize(serializable));
+            }
+            javaNanos = Math.min(javaNanos, System.nanoTime() - start);
+        }
+
+        System.out.printf("CarRepairInfoCodec: %d bytes, %.1f round trips/s%n",
+                CarRepairInfoCodec.encodeList(1, items).length, ITERATIONS * 1e9 / codecNanos);
+        System.out.printf("Java serialization: %d bytes, %.1f round trips/s%n",
+                CarRepairInfoCodecTest.javaSerialize(serializable).length, ITERATIONS * 1e9 / javaNanos);
+    }
+}
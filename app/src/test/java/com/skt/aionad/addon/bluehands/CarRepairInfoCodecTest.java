@@ -0,0 +1,280 @@
+package com.skt.aionad.addon.bluehands;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * CarRepairInfoCodec 왕복/손상 입력 검사와 Java 직렬화 대비 크기 비교
+ * (처리량 비교는 CarRepairInfoCodecBenchmark, 단위 테스트에는 포함하지 않음)
+ */
+public class CarRepairInfoCodecTest {
+
+    private static final CarRepairInfo.RepairStatus[] STATUSES = CarRepairInfo.RepairStatus.values();
+
+    // ---- 단일 항목 ----
+
+    @Test
+    public void singleEntryRoundTrip() throws IOException {
+        CarRepairInfo info = new CarRepairInfo(CarRepairInfo.RepairStatus.FINAL_INSPECTION,
+                "12가3456", "쏘나타", "08:30:00", "17:45:30");
+
+        CarRepairInfo decoded = CarRepairInfoCodec.decode(CarRepairInfoCodec.encode(info));
+
+        assertEquals(info, decoded);
+        assertEquals("12가3456", decoded.getLicensePlateNumber());
+        assertEquals("08:30:00", decoded.getRequestedTime());
+        assertEquals("17:45:30", decoded.getEstimatedFinishTime());
+    }
+
+    @Test
+    public void nullStatusAndStringsRoundTrip() throws IOException {
+        CarRepairInfo info = new CarRepairInfo();
+
+        CarRepairInfo decoded = CarRepairInfoCodec.decode(CarRepairInfoCodec.encode(info));
+
+        assertEquals(info, decoded);
+        assertNull(decoded.getRepairStatus());
+        assertNull(decoded.getLicensePlateNumber());
+        assertNull(decoded.getCarModel());
+    }
+
+    @Test
+    public void noTimeRoundTrip() throws IOException {
+        CarRepairInfo info = new CarRepairInfo(CarRepairInfo.RepairStatus.COMPLETED, "34나5678", "", null, null);
+
+        CarRepairInfo decoded = CarRepairInfoCodec.decode(CarRepairInfoCodec.encode(info));
+
+        assertEquals(info, decoded);
+        assertEquals(CarRepairInfo.NO_TIME, decoded.getRequestedSeconds());
+        assertEquals(CarRepairInfo.NO_TIME, decoded.getEstimatedFinishSeconds());
+        assertEquals("", decoded.getCarModel());
+    }
+
+    @Test
+    public void boundaryTimesRoundTrip() throws IOException {
+        CarRepairInfo info = new CarRepairInfo(CarRepairInfo.RepairStatus.IN_PROGRESS, "56다7890", "K5",
+                "00:00:00", "23:59:59");
+
+        CarRepairInfo decoded = CarRepairInfoCodec.decode(CarRepairInfoCodec.encode(info));
+
+        assertEquals(0, decoded.getRequestedSeconds());
+        assertEquals(24 * 3600 - 1, decoded.getEstimatedFinishSeconds());
+    }
+
+    // ---- 목록 ----
+
+    @Test
+    public void listRoundTripKeepsStoreVersion() throws IOException {
+        List<CarRepairInfo> items = sampleItems(50);
+        long storeVersion = (1L << 40) + 7;
+
+        CarRepairInfoCodec.DecodedList decoded =
+                CarRepairInfoCodec.decodeList(ByteBuffer.wrap(CarRepairInfoCodec.encodeList(storeVersion, items)));
+
+        assertEquals(storeVersion, decoded.getStoreVersion());
+        assertEquals(items, decoded.getItems());
+    }
+
+    @Test
+    public void emptyListRoundTrip() throws IOException {
+        CarRepairInfoCodec.DecodedList decoded = CarRepairInfoCodec.decodeList(
+                ByteBuffer.wrap(CarRepairInfoCodec.encodeList(0, Collections.<CarRepairInfo>emptyList())));
+
+        assertEquals(0, decoded.getStoreVersion());
+        assertTrue(decoded.getItems().isEmpty());
+    }
+
+    // ---- 손상된 입력 ----
+
+    @Test
+    public void truncatedEntryIsRejected() {
+        byte[] bytes = CarRepairInfoCodec.encode(sampleItems(1).get(0));
+        for (int length = 0; length < bytes.length; length++) {
+            assertDecodeFails(Arrays.copyOf(bytes, length));
+        }
+    }
+
+    @Test
+    public void truncatedListIsRejected() {
+        byte[] bytes = CarRepairInfoCodec.encodeList(3, sampleItems(3));
+        for (int length = 0; length < bytes.length; length++) {
+            assertDecodeListFails(Arrays.copyOf(bytes, length));
+        }
+    }
+
+    @Test
+    public void badMagicIsRejected() {
+        byte[] bytes = CarRepairInfoCodec.encodeList(1, sampleItems(2));
+        bytes[0] = 'X';
+        assertDecodeListFails(bytes);
+    }
+
+    @Test
+    public void unsupportedFormatVersionIsRejected() {
+        byte[] entry = CarRepairInfoCodec.encode(sampleItems(1).get(0));
+        entry[0] = (byte) (CarRepairInfoCodec.FORMAT_VERSION + 1);
+        assertDecodeFails(entry);
+
+        byte[] list = CarRepairInfoCodec.encodeList(1, sampleItems(2));
+        list[4] = (byte) (CarRepairInfoCodec.FORMAT_VERSION + 1); // 매직 4바이트 다음
+        assertDecodeListFails(list);
+    }
+
+    @Test
+    public void outOfRangeStatusIsRejected() {
+        byte[] bytes = CarRepairInfoCodec.encode(sampleItems(1).get(0));
+        bytes[1] = (byte) STATUSES.length; // 포맷 버전 다음이 상태 byte
+        assertDecodeFails(bytes);
+    }
+
+    @Test
+    public void oversizedStringLengthIsRejected() {
+        CarRepairInfoCodec.Output out = new CarRepairInfoCodec.Output(32);
+        out.writeByte(CarRepairInfoCodec.FORMAT_VERSION);
+        out.writeByte(0);           // 상태
+        out.writeVarInt(0);         // 요청시간 없음
+        out.writeVarInt(0);         // 예상완료시간 없음
+        out.writeVarInt(1_000_000); // 차량번호 길이 (실제 데이터 없음)
+        assertDecodeFails(out.toByteArray());
+    }
+
+    @Test
+    public void negativeStringLengthIsRejected() {
+        // 5바이트 varint가 음수(-5)로 읽혀 길이가 -6이 되는 손상
+        byte[] entry = entryWithPlateLength(-5);
+        assertDecodeFails(entry);
+
+        CarRepairInfoCodec.Output list = new CarRepairInfoCodec.Output(32);
+        CarRepairInfoCodec.writeList(list, 1, Collections.<CarRepairInfo>emptyList());
+        byte[] header = list.toByteArray();
+        CarRepairInfoCodec.Output forged = new CarRepairInfoCodec.Output(32);
+        forged.writeBytes(header, 0, header.length - 1);
+        forged.writeVarInt(1);
+        forged.writeBytes(entry, 1, entry.length - 1); // 포맷 버전 제외
+        assertDecodeListFails(forged.toByteArray());
+    }
+
+    @Test
+    public void overlongVarIntIsRejected() {
+        CarRepairInfoCodec.Output out = new CarRepairInfoCodec.Output(32);
+        out.writeByte(CarRepairInfoCodec.FORMAT_VERSION);
+        out.writeByte(0);
+        // 5번째 바이트가 32비트를 넘는 varint
+        out.writeBytes(new byte[]{(byte) 0x81, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x10}, 0, 5);
+        out.writeVarInt(0);
+        out.writeVarInt(0);
+        out.writeVarInt(0);
+        assertDecodeFails(out.toByteArray());
+    }
+
+    @Test
+    public void outOfRangeTimeIsRejected() {
+        CarRepairInfoCodec.Output out = new CarRepairInfoCodec.Output(32);
+        out.writeByte(CarRepairInfoCodec.FORMAT_VERSION);
+        out.writeByte(0);
+        out.writeVarInt(24 * 3600 + 1); // 86400초 (+1 기록)
+        out.writeVarInt(0);
+        out.writeVarInt(0);
+        out.writeVarInt(0);
+        assertDecodeFails(out.toByteArray());
+    }
+
+    @Test
+    public void oversizedItemCountIsRejected() {
+        CarRepairInfoCodec.Output out = new CarRepairInfoCodec.Output(32);
+        CarRepairInfoCodec.writeList(out, 1, Collections.<CarRepairInfo>emptyList());
+        byte[] bytes = out.toByteArray();
+        // 마지막 바이트(개수 0)를 큰 개수로 교체
+        CarRepairInfoCodec.Output forged = new CarRepairInfoCodec.Output(32);
+        forged.writeBytes(bytes, 0, bytes.length - 1);
+        forged.writeVarInt(Integer.MAX_VALUE);
+        assertDecodeListFails(forged.toByteArray());
+    }
+
+    // ---- Java 직렬화 대비 ----
+
+    @Test
+    public void smallerThanJavaSerialization() throws Exception {
+        List<CarRepairInfo> items = sampleItems(200);
+
+        byte[] codecBytes = CarRepairInfoCodec.encodeList(1, items);
+        byte[] javaBytes = javaSerialize(new ArrayList<>(items));
+
+        assertEquals(items, CarRepairInfoCodec.decodeList(ByteBuffer.wrap(codecBytes)).getItems());
+        assertEquals(items, javaDeserialize(javaBytes));
+        assertTrue("codec " + codecBytes.length + " bytes vs java " + javaBytes.length + " bytes",
+                codecBytes.length < javaBytes.length);
+    }
+
+    // ---- helpers ----
+
+    static List<CarRepairInfo> sampleItems(int count) {
+        List<CarRepairInfo> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String requested = String.format("%02d:%02d:00", 7 + i % 10, i % 60);
+            String finish = i % 5 == 0 ? null : String.format("%02d:%02d:30", 10 + i % 12, (i * 7) % 60);
+            items.add(new CarRepairInfo(STATUSES[i % STATUSES.length],
+                    String.format("%03d가%04d", i, i), "모델" + i, requested, finish));
+        }
+        return items;
+    }
+
+    private static byte[] entryWithPlateLength(int lengthPlusOne) {
+        CarRepairInfoCodec.Output out = new CarRepairInfoCodec.Output(32);
+        out.writeByte(CarRepairInfoCodec.FORMAT_VERSION);
+        out.writeByte(0);               // 상태
+        out.writeVarInt(0);             // 요청시간 없음
+        out.writeVarInt(0);             // 예상완료시간 없음
+        out.writeVarInt(lengthPlusOne); // 차량번호 길이 + 1
+        out.writeBytes(new byte[8], 0, 8);
+        return out.toByteArray();
+    }
+
+    private static void assertDecodeFails(byte[] bytes) {
+        try {
+            CarRepairInfoCodec.decode(bytes);
+            fail("Expected IOException for " + Arrays.toString(bytes));
+        } catch (IOException expected) {
+            // 예상한 실패
+        }
+    }
+
+    private static void assertDecodeListFails(byte[] bytes) {
+        try {
+            CarRepairInfoCodec.decodeList(ByteBuffer.wrap(bytes));
+            fail("Expected IOException for list of " + bytes.length + " bytes");
+        } catch (IOException expected) {
+            // 예상한 실패
+        }
+    }
+
+    static byte[] javaSerialize(ArrayList<CarRepairInfo> items) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(items);
+        }
+        return bytes.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    static List<CarRepairInfo> javaDeserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (List<CarRepairInfo>) in.readObject();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.skt.aionad.addon.bluehands;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * CarRepairInfoStore.applyBatch 전체 적용/전체 미적용 검사
+ */
+public class CarRepairInfoStoreBatchTest {
+
+    private final CarRepairInfoStore store = new CarRepairInfoStore();
+    private final List<CarRepairInfoStore.Change> changes = new ArrayList<>();
+
+    public CarRepairInfoStoreBatchTest() {
+        store.add(newInfo("11가1111", "09:00:00"));
+        store.add(newInfo("22나2222", "10:00:00"));
+        store.addChangeListener(changes::add);
+    }
+
+    @Test
+    public void allOperationsAppliedUnderOneVersion() {
+        long before = store.getVersion();
+
+        CarRepairInfoStore.BatchResult result = store.applyBatch(Arrays.asList(
+                CarRepairInfoStore.BatchOperation.add(newInfo("33다3333", "11:00:00")),
+                CarRepairInfoStore.BatchOperation.update("11가1111", newInfo("11가1111", "12:00:00")),
+                CarRepairInfoStore.BatchOperation.delete("22나2222")));
+
+        assertEquals(before + 1, result.getVersion());
+        assertEquals(3, result.getAppliedCount());
+        assertEquals(Arrays.asList(CarRepairInfoStore.BatchItemStatus.APPLIED,
+                CarRepairInfoStore.BatchItemStatus.APPLIED, CarRepairInfoStore.BatchItemStatus.APPLIED),
+                result.getStatuses());
+        assertEquals(3, changes.size());
+        for (CarRepairInfoStore.Change change : changes) {
+            assertEquals(result.getVersion(), change.getVersion());
+        }
+        assertNull(store.get("22나2222"));
+        assertEquals("12:00:00", store.get("11가1111").getEstimatedFinishTime());
+    }
+
+    @Test
+    public void oneFailureAppliesNothing() {
+        long before = store.getVersion();
+
+        CarRepairInfoStore.BatchResult result = store.applyBatch(Arrays.asList(
+                CarRepairInfoStore.BatchOperation.add(newInfo("33다3333", "11:00:00")),
+                CarRepairInfoStore.BatchOperation.delete("22나2222"),
+                CarRepairInfoStore.BatchOperation.update("99하9999", newInfo("99하9999", "12:00:00"))));
+
+        assertEquals(before, result.getVersion());
+        assertEquals(before, store.getVersion());
+        assertEquals(0, result.getAppliedCount());
+        assertEquals(Arrays.asList(CarRepairInfoStore.BatchItemStatus.NOT_APPLIED,
+                CarRepairInfoStore.BatchItemStatus.NOT_APPLIED, CarRepairInfoStore.BatchItemStatus.NOT_FOUND),
+                result.getStatuses());
+        assertTrue(changes.isEmpty());
+        assertNull(store.get("33다3333"));
+        assertNotNull(store.get("22나2222"));
+    }
+
+    @Test
+    public void laterItemsSeeEarlierItems() {
+        CarRepairInfoStore.BatchResult result = store.applyBatch(Arrays.asList(
+                CarRepairInfoStore.BatchOperation.delete("11가1111"),
+                CarRepairInfoStore.BatchOperation.add(newInfo("11가1111", "13:00:00")),
+                CarRepairInfoStore.BatchOperation.add(newInfo("11가 1111", "14:00:00"))));
+
+        // 세 번째 ADD는 두 번째 ADD와 같은 차량번호이므로 충돌, 전체 미적용
+        assertEquals(Arrays.asList(CarRepairInfoStore.BatchItemStatus.NOT_APPLIED,
+                CarRepairInfoStore.BatchItemStatus.NOT_APPLIED, CarRepairInfoStore.BatchItemStatus.CONFLICT),
+                result.getStatuses());
+        assertEquals("09:00:00", store.get("11가1111").getEstimatedFinishTime());
+    }
+
+    @Test
+    public void updateDoesNotModifyCallerInfo() {
+        store.add(newInfo("44라 4444", "09:30:00"));
+        CarRepairInfo update = newInfo("44라4444", "15:00:00");
+
+        store.applyBatch(Arrays.asList(CarRepairInfoStore.BatchOperation.update("44라4444", update)));
+
+        assertEquals("44라4444", update.getLicensePlateNumber());
+        CarRepairInfo stored = store.get("44라4444");
+        assertEquals("44라 4444", stored.getLicensePlateNumber());
+        assertEquals("15:00:00", stored.getEstimatedFinishTime());
+        assertTrue(stored != update);
+    }
+
+    private static CarRepairInfo newInfo(String plate, String finishTime) {
+        return new CarRepairInfo(CarRepairInfo.RepairStatus.IN_PROGRESS, plate, "아반떼", "08:00:00", finishTime);
+    }
+}
@@ -0,0 +1,71 @@
+package com.skt.aionad.addon.bluehands;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * 변경 알림의 차량번호 표기 검사
+ * SSE 스트림/변경분 응답은 Change.getLicensePlateNumber()를 그대로 보내므로
+ * 공백이 있는 차량번호도 ADD/UPDATE/DELETE가 같은 값을 가져야 클라이언트가 같은 항목으로 처리함
+ */
+public class CarRepairInfoStoreChangeTest {
+
+    private static final String DISPLAY_PLATE = "12가 3456";
+    private static final String KEY_PLATE = "12가3456";
+
+    private final CarRepairInfoStore store = new CarRepairInfoStore();
+    private final List<CarRepairInfoStore.Change> changes = new ArrayList<>();
+
+    public CarRepairInfoStoreChangeTest() {
+        store.addChangeListener(changes::add);
+    }
+
+    @Test
+    public void deleteCarriesDisplayPlate() {
+        store.add(newInfo(DISPLAY_PLATE));
+        store.remove(KEY_PLATE);
+
+        assertEquals(2, changes.size());
+        assertChange(changes.get(0), CarRepairInfoStore.ChangeType.ADD);
+        assertChange(changes.get(1), CarRepairInfoStore.ChangeType.DELETE);
+        assertNull(changes.get(1).getInfo());
+    }
+
+    @Test
+    public void conditionalDeleteCarriesDisplayPlate() {
+        CarRepairInfo info = newInfo(DISPLAY_PLATE);
+        store.add(info);
+        store.remove(KEY_PLATE, info);
+
+        assertChange(changes.get(1), CarRepairInfoStore.ChangeType.DELETE);
+    }
+
+    @Test
+    public void batchDeleteCarriesDisplayPlate() {
+        store.add(newInfo(DISPLAY_PLATE));
+        store.applyBatch(Arrays.asList(
+                CarRepairInfoStore.BatchOperation.update(KEY_PLATE, newInfo(KEY_PLATE)),
+                CarRepairInfoStore.BatchOperation.delete(KEY_PLATE)));
+
+        assertEquals(3, changes.size());
+        // UPDATE는 기존 표기를 유지하므로 DELETE와 같은 차량번호
+        assertChange(changes.get(1), CarRepairInfoStore.ChangeType.UPDATE);
+        assertChange(changes.get(2), CarRepairInfoStore.ChangeType.DELETE);
+    }
+
+    private static void assertChange(CarRepairInfoStore.Change change, CarRepairInfoStore.ChangeType type) {
+        assertEquals(type, change.getType());
+        assertEquals(KEY_PLATE, change.getPlate());
+        assertEquals(DISPLAY_PLATE, change.getLicensePlateNumber());
+    }
+
+    private static CarRepairInfo newInfo(String plate) {
+        return new CarRepairInfo(CarRepairInfo.RepairStatus.IN_PROGRESS, plate, "쏘나타", "09:00:00", "12:00:00");
+    }
+}
@@ -0,0 +1,71 @@
+package com.skt.aionad.addon.utils;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * LatencyHistogram 분위수 구간 검사 (시계를 직접 움직임)
+ */
+public class LatencyHistogramTest {
+
+    private static final long WINDOW_MILLIS = 60_000;
+    private static final long WINDOW_NANOS = WINDOW_MILLIS * 1_000_000L;
+
+    private final AtomicLong now = new AtomicLong(10 * WINDOW_NANOS);
+    private final LatencyHistogram histogram = new LatencyHistogram(WINDOW_MILLIS, now::get);
+
+    @Test
+    public void recentBurstShowsAfterLongQuietPeriod() {
+        // 오랜 시간 1ms 응답
+        for (int minute = 0; minute < 600; minute++) {
+            for (int i = 0; i < 100; i++) {
+                histogram.recordMicros(1_000);
+            }
+            now.addAndGet(WINDOW_NANOS);
+        }
+        // 짧은 지연 구간 (200ms)
+        for (int i = 0; i < 50; i++) {
+            histogram.recordMicros(200_000);
+        }
+
+        // 누적 기준이면 p95는 1ms 근처에 머무름
+        assertTrue(histogram.getQuantileMicros(0.95) >= 175_000);
+        assertEquals(600 * 100 + 50, histogram.getCount());
+    }
+
+    @Test
+    public void previousWindowIsKeptAndOlderIsDropped() {
+        histogram.recordMicros(5_000);
+        now.addAndGet(WINDOW_NANOS);
+        histogram.recordMicros(1_000);
+
+        // 직전 구간 기록 포함
+        assertTrue(histogram.getQuantileMicros(1.0) >= 5_000);
+
+        now.addAndGet(WINDOW_NANOS);
+        // 5ms 기록은 두 구간 전이므로 제외
+        assertTrue(histogram.getQuantileMicros(1.0) < 5_000);
+
+        now.addAndGet(2 * WINDOW_NANOS);
+        assertEquals(0, histogram.getQuantileMicros(0.5));
+        // 누적 값은 유지
+        assertEquals(2, histogram.getCount());
+        assertEquals(6_000, histogram.getSumMicros());
+        assertEquals(5_000, histogram.getMaxMicros());
+    }
+
+    @Test
+    public void quantileIsBucketUpperBoundWithinWindowMax() {
+        for (int i = 1; i <= 100; i++) {
+            histogram.recordMicros(i * 100);
+        }
+        long p50 = histogram.getQuantileMicros(0.5);
+        // log-linear 버킷의 상대 오차 12.5% 이내
+        assertTrue(p50 >= 5_000 && p50 <= 5_000 * 1.125);
+        assertEquals(10_000, histogram.getQuantileMicros(1.0));
+    }
+}
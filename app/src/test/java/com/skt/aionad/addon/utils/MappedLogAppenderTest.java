@@ -0,0 +1,41 @@
+package com.skt.aionad.addon.utils;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 매핑 세그먼트의 기록 끝 복구 검사 (메시지에 NUL이 있어도 첫 NUL이 기록 끝이어야 함)
+ */
+public class MappedLogAppenderTest {
+
+    @Test
+    public void dataEndOfEmptySegmentIsZero() {
+        assertEquals(0, MappedLogAppender.findDataEnd(ByteBuffer.allocate(4096)));
+    }
+
+    @Test
+    public void nulInMessageDoesNotMoveRecoveredEnd() {
+        ByteBuffer segment = ByteBuffer.allocate(4096);
+        byte[] first = "I/Api: plate=12가\u00003456 model=\u0000\n".getBytes(StandardCharsets.UTF_8);
+        byte[] second = "I/Api: next line\n".getBytes(StandardCharsets.UTF_8);
+
+        for (byte[] line : new byte[][]{first, second}) {
+            int start = segment.position();
+            segment.put(line);
+            assertEquals(line == first, MappedLogAppender.containsNul(line, 0, line.length));
+            MappedLogAppender.replaceNul(segment, start, line.length);
+        }
+
+        int written = first.length + second.length;
+        assertEquals(written, MappedLogAppender.findDataEnd(segment));
+        String recovered = new String(segment.array(), 0, written, StandardCharsets.UTF_8);
+        assertEquals("I/Api: plate=12가?3456 model=?\nI/Api: next line\n", recovered);
+        // 호출자 배열은 바꾸지 않음
+        assertTrue(MappedLogAppender.containsNul(first, 0, first.length));
+    }
+}
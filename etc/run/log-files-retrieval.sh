@@ -3,3 +3,12 @@
 
 adb exec-out "run-as com.skt.aionad.addon tar c -C files logs" > aionad-add-on-bluehands.tar
 tar xvf aionad-add-on-bluehands.tar
+
+# 압축된 백업(aionad-addon.log.N.gz) 풀기 (원본 .gz 유지)
+gunzip -kf logs/*.gz 2>/dev/null || true
+
+# appender "mmap" 사용 시 현재 파일(aionad-addon.log)은 maxFileSize 크기로 미리 확보되어 기록 끝 뒤가 NUL로 채워져 있음
+# (종료/회전 시 잘라 내므로 백업은 해당 없음) - NUL을 제거하여 일반 텍스트로 만듦
+if [ -f logs/aionad-addon.log ]; then
+  tr -d '\000' < logs/aionad-addon.log > logs/aionad-addon.log.txt && mv logs/aionad-addon.log.txt logs/aionad-addon.log
+fi
@@ -42,11 +42,40 @@ curl -X POST http://192.168.10.9:8080/api/car-repair \
 }'
 
 
+###########################
+# batch add / update / delete (one request, one store version)
+# 모든 항목이 성공할 때만 적용 (하나라도 실패하면 409, 나머지 항목은 NOT_APPLIED)
+###########################
+
+curl -X POST http://192.168.10.9:8080/api/car-repair/batch \
+-H "Content-Type: application/json" \
+-d '{
+  "operations": [
+    { "op": "add", "data": { "licensePlateNumber": "0021가0021", "carModel": "아반떼", "repairStatus": "IN_PROGRESS", "estimatedFinishTime": "15:00:00" } },
+    { "op": "add", "data": { "licensePlateNumber": "0022나0022", "carModel": "K7", "repairStatus": "IN_PROGRESS", "estimatedFinishTime": "16:00:00" } },
+    { "op": "update", "licensePlateNumber": "0016하0016", "data": { "carModel": "르망", "repairStatus": "COMPLETED" } },
+    { "op": "delete", "licensePlateNumber": "0017보0017" }
+  ]
+}'
+
+# 해석할 수 없는 시간은 거부 (단건: 400, 일괄: 해당 항목 INVALID로 전체 미적용)
+curl -X POST http://192.168.10.9:8080/api/car-repair \
+-H "Content-Type: application/json" \
+-d '{
+  "licensePlateNumber": "0023다0023",
+  "carModel": "스포티지",
+  "repairStatus": "IN_PROGRESS",
+  "estimatedFinishTime": "25:00"
+}'
+
+
 ###########################
 # all car repair info check
 ###########################
 
 curl -X GET http://192.168.10.9:8080/api/car-repair
+curl -X GET http://192.168.10.9:8080/api/car-repair/summary
+curl -X GET http://192.168.10.9:8080/api/render/metrics
 
 
 sleep 1